@@ -0,0 +1,208 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.jfr;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+
+/**
+ * Attributes a stack trace to the instrumentation that caused it.
+ *
+ * <p>Instrumentations are identified by the package of their classes, e.g. frames in {@code
+ * io.opentelemetry.javaagent.instrumentation.jdbc.*} (javaagent instrumentation, including advice
+ * classes that are not inlined) or {@code io.opentelemetry.javaagent.shaded.instrumentation.jdbc.*}
+ * (library instrumentation, as relocated in the agent) are attributed to {@code jdbc}.
+ *
+ * <p>Two attributions are computed for each stack trace:
+ *
+ * <ul>
+ *   <li>self: only the frames at the top of the stack, up to the first frame that is neither agent
+ *       code nor jdk code, are considered. This is the overhead of the agent code itself. Time
+ *       spent in shared agent code (instrumentation api, sdk, exporters) is attributed to the
+ *       instrumentation that called it, or to the shared component if no instrumentation did.
+ *   <li>inclusive: the first instrumentation anywhere in the stack. This also includes the
+ *       application code that an instrumentation calls, e.g. the tasks run by a wrapped {@code
+ *       Runnable}, so it's only an upper bound for the overhead.
+ * </ul>
+ *
+ * <p>Advice that is inlined into the instrumented method doesn't have a frame of its own. The
+ * shared agent code that it calls, e.g. {@code Instrumenter.start()}, is directly below a library
+ * frame, so its self time is attributed to the shared component, not to the instrumentation. Only
+ * advice that isn't inlined, and helper classes of the instrumentation, are attributed to it.
+ */
+final class InstrumentationAttribution {
+
+  private static final String JAVAAGENT_INSTRUMENTATION_PREFIX =
+      "io.opentelemetry.javaagent.instrumentation.";
+  private static final String LIBRARY_INSTRUMENTATION_PREFIX =
+      "io.opentelemetry.javaagent.shaded.instrumentation.";
+  private static final String INSTRUMENTATION_API_PREFIX =
+      "io.opentelemetry.javaagent.shaded.instrumentation.api.";
+
+  // shared agent components, checked in order
+  private static final String[][] SHARED_COMPONENTS = {
+    {"io.opentelemetry.javaagent.benchmark.", null},
+    {INSTRUMENTATION_API_PREFIX, "(instrumentation-api)"},
+    {"io.opentelemetry.javaagent.tooling.", "(javaagent-tooling)"},
+    {"io.opentelemetry.javaagent.bootstrap.", "(javaagent-bootstrap)"},
+    {"io.opentelemetry.javaagent.shaded.", "(api)"},
+    {"io.opentelemetry.sdk.", "(sdk)"},
+    {"io.opentelemetry.exporter.", "(exporter)"},
+    {"io.opentelemetry.javaagent.", "(javaagent)"},
+  };
+
+  // jdk code is charged to whoever called it. javax.* and com.sun.* are listed per package, since
+  // libraries like javax.servlet, com.sun.faces or com.sun.jersey use them too.
+  private static final String[] JDK_PREFIXES = {
+    "java.",
+    "jdk.",
+    "sun.",
+    "javax.annotation.processing.",
+    "javax.crypto.",
+    "javax.lang.model.",
+    "javax.management.",
+    "javax.naming.",
+    "javax.net.",
+    "javax.script.",
+    "javax.security.",
+    "javax.sql.",
+    "javax.tools.",
+    "javax.xml.catalog.",
+    "javax.xml.crypto.",
+    "javax.xml.datatype.",
+    "javax.xml.namespace.",
+    "javax.xml.parsers.",
+    "javax.xml.stream.",
+    "javax.xml.transform.",
+    "javax.xml.validation.",
+    "javax.xml.xpath.",
+    "com.sun.crypto.provider.",
+    "com.sun.jmx.",
+    "com.sun.jndi.",
+    "com.sun.management.",
+    "com.sun.naming.internal.",
+    "com.sun.net.ssl.",
+    "com.sun.org.apache.",
+    "com.sun.proxy.",
+    "com.sun.security.",
+    "com.sun.xml.internal.",
+  };
+
+  /** Returns the class names of the stack trace frames, ordered from the top of the stack. */
+  static List<String> getClassNames(@Nullable RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return Collections.emptyList();
+    }
+    List<RecordedFrame> frames = stackTrace.getFrames();
+    List<String> classNames = new ArrayList<>(frames.size());
+    for (RecordedFrame frame : frames) {
+      RecordedMethod method = frame.getMethod();
+      if (method != null) {
+        classNames.add(method.getType().getName());
+      }
+    }
+    return classNames;
+  }
+
+  /**
+   * Returns the name of the instrumentation (or shared agent component) that is running at the top
+   * of the stack, or {@code null} if the top of the stack isn't agent code.
+   */
+  @Nullable
+  static String attributeSelf(List<String> classNames) {
+    String sharedComponent = null;
+    for (String className : classNames) {
+      if (isJdk(className)) {
+        continue;
+      }
+      String instrumentation = getInstrumentation(className);
+      if (instrumentation != null) {
+        return instrumentation;
+      }
+      String component = getSharedComponent(className);
+      if (component == null) {
+        // reached application (or benchmark) code
+        break;
+      }
+      if (sharedComponent == null) {
+        sharedComponent = component;
+      }
+    }
+    return sharedComponent;
+  }
+
+  /**
+   * Returns the name of the first instrumentation (or shared agent component) anywhere in the
+   * stack, or {@code null} if it doesn't contain any agent frames.
+   */
+  @Nullable
+  static String attributeInclusive(List<String> classNames) {
+    String sharedComponent = null;
+    for (String className : classNames) {
+      String instrumentation = getInstrumentation(className);
+      if (instrumentation != null) {
+        return instrumentation;
+      }
+      if (sharedComponent == null) {
+        sharedComponent = getSharedComponent(className);
+      }
+    }
+    return sharedComponent;
+  }
+
+  @Nullable
+  static String getInstrumentation(String className) {
+    String packageName;
+    if (className.startsWith(JAVAAGENT_INSTRUMENTATION_PREFIX)) {
+      packageName = getPackageName(className, JAVAAGENT_INSTRUMENTATION_PREFIX.length());
+    } else if (className.startsWith(LIBRARY_INSTRUMENTATION_PREFIX)
+        && !className.startsWith(INSTRUMENTATION_API_PREFIX)) {
+      packageName = getPackageName(className, LIBRARY_INSTRUMENTATION_PREFIX.length());
+    } else {
+      return null;
+    }
+    return packageName.isEmpty() ? null : packageName;
+  }
+
+  @Nullable
+  private static String getSharedComponent(String className) {
+    for (String[] component : SHARED_COMPONENTS) {
+      if (className.startsWith(component[0])) {
+        return component[1];
+      }
+    }
+    return null;
+  }
+
+  private static boolean isJdk(String className) {
+    for (String prefix : JDK_PREFIXES) {
+      if (className.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // e.g. "spring.webmvc.v5_3" for
+  // "io.opentelemetry.javaagent.instrumentation.spring.webmvc.v5_3.SpringWebMvcSingletons"
+  private static String getPackageName(String className, int prefixLength) {
+    int lastDot = className.lastIndexOf('.');
+    if (lastDot < prefixLength) {
+      return "";
+    }
+    String packageName = className.substring(prefixLength, lastDot);
+    // group the internal sub-packages with the instrumentation
+    int internalIndex = packageName.indexOf(".internal");
+    return internalIndex == -1 ? packageName : packageName.substring(0, internalIndex);
+  }
+
+  private InstrumentationAttribution() {}
+}
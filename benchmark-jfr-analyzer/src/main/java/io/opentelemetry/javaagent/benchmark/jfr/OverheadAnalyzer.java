@@ -0,0 +1,194 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Ranks the agent overhead in a JFR recording (e.g. one taken during a {@code benchmark-overhead}
+ * petclinic run) by instrumentation, see {@link InstrumentationAttribution}. Both the self and the
+ * inclusive share of CPU samples and allocations are reported, the ranking is by self CPU.
+ *
+ * <p>Usage: {@code OverheadAnalyzer <jfr-file> [--requests <count>]}, where the number of requests
+ * that were made during the recording is used to report allocated bytes per request.
+ */
+@SuppressWarnings("SystemOut")
+public final class OverheadAnalyzer {
+
+  private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+  // jdk 16+, weight is the (estimated) number of bytes allocated since the previous sample
+  private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+  // older jdks
+  private static final String ALLOCATION_IN_NEW_TLAB = "jdk.ObjectAllocationInNewTLAB";
+  private static final String ALLOCATION_OUTSIDE_TLAB = "jdk.ObjectAllocationOutsideTLAB";
+
+  private final Map<String, Usage> usageByInstrumentation = new HashMap<>();
+  private long totalCpuSamples;
+  // both allocation sources are collected, but only one of them is reported, because a recording
+  // can contain both of them and they measure the same allocations
+  private long totalSampledBytes;
+  private long totalTlabBytes;
+  private boolean hasAllocationSamples;
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1 && !(args.length == 3 && args[1].equals("--requests"))) {
+      System.err.println("Usage: OverheadAnalyzer <jfr-file> [--requests <count>]");
+      System.exit(1);
+    }
+    long requests = args.length == 3 ? Long.parseLong(args[2]) : 0;
+
+    OverheadAnalyzer analyzer = new OverheadAnalyzer();
+    analyzer.analyze(Paths.get(args[0]));
+    analyzer.printReport(requests);
+  }
+
+  private void analyze(Path jfrFile) throws IOException {
+    // events are streamed, recordings of long benchmark runs don't need to fit in memory
+    try (RecordingFile recordingFile = new RecordingFile(jfrFile)) {
+      while (recordingFile.hasMoreEvents()) {
+        RecordedEvent event = recordingFile.readEvent();
+        switch (event.getEventType().getName()) {
+          case EXECUTION_SAMPLE:
+            totalCpuSamples++;
+            record(event, 1, usage -> usage.cpuSamples);
+            break;
+          case ALLOCATION_SAMPLE:
+            hasAllocationSamples = true;
+            long weight = event.getLong("weight");
+            totalSampledBytes += weight;
+            record(event, weight, usage -> usage.sampledBytes);
+            break;
+          case ALLOCATION_IN_NEW_TLAB:
+            long tlabSize = event.getLong("tlabSize");
+            totalTlabBytes += tlabSize;
+            record(event, tlabSize, usage -> usage.tlabBytes);
+            break;
+          case ALLOCATION_OUTSIDE_TLAB:
+            long allocationSize = event.getLong("allocationSize");
+            totalTlabBytes += allocationSize;
+            record(event, allocationSize, usage -> usage.tlabBytes);
+            break;
+          default:
+            // not used
+        }
+      }
+    }
+  }
+
+  private void record(RecordedEvent event, long value, Function<Usage, Counter> counter) {
+    List<String> classNames = InstrumentationAttribution.getClassNames(event.getStackTrace());
+    String self = InstrumentationAttribution.attributeSelf(classNames);
+    if (self != null) {
+      counter.apply(getUsage(self)).self += value;
+    }
+    String inclusive = InstrumentationAttribution.attributeInclusive(classNames);
+    if (inclusive != null) {
+      counter.apply(getUsage(inclusive)).inclusive += value;
+    }
+  }
+
+  private Usage getUsage(String instrumentation) {
+    return usageByInstrumentation.computeIfAbsent(instrumentation, Usage::new);
+  }
+
+  private void printReport(long requests) {
+    // jdk.ObjectAllocationSample is preferred, it's the only allocation event that is enabled by
+    // default on the jdks that have it
+    Function<Usage, Counter> allocation =
+        hasAllocationSamples ? usage -> usage.sampledBytes : usage -> usage.tlabBytes;
+    long totalAllocatedBytes = hasAllocationSamples ? totalSampledBytes : totalTlabBytes;
+
+    List<Usage> ranked = new ArrayList<>(usageByInstrumentation.values());
+    ranked.sort(
+        Comparator.comparingLong((Usage usage) -> usage.cpuSamples.self)
+            .thenComparingLong(usage -> allocation.apply(usage).self)
+            .thenComparingLong(usage -> usage.cpuSamples.inclusive)
+            .reversed());
+
+    // every sample is attributed to at most one instrumentation, so these don't overlap
+    long agentCpuSamples = 0;
+    long agentAllocatedBytes = 0;
+    for (Usage usage : ranked) {
+      agentCpuSamples += usage.cpuSamples.self;
+      agentAllocatedBytes += allocation.apply(usage).self;
+    }
+
+    System.out.format("Total CPU samples: %d%n", totalCpuSamples);
+    System.out.format(
+        "Agent CPU samples (self): %d (%.2f%%)%n",
+        agentCpuSamples, percent(agentCpuSamples, totalCpuSamples));
+    System.out.format(
+        "Total allocated: %d bytes (from %s)%n",
+        totalAllocatedBytes,
+        hasAllocationSamples ? ALLOCATION_SAMPLE : "TLAB allocation events");
+    System.out.format(
+        "Agent allocated (self): %d bytes (%.2f%%)%n",
+        agentAllocatedBytes, percent(agentAllocatedBytes, totalAllocatedBytes));
+    System.out.println();
+    System.out.println("Note: inlined advice has no frames of its own. The self time of the");
+    System.out.println("shared agent code that it calls is reported under (instrumentation-api),");
+    System.out.println("(sdk) etc., not under the instrumentation.");
+    System.out.println();
+
+    String bytesPerRequestHeader = requests > 0 ? "  self bytes/req" : "";
+    System.out.format(
+        "%-50s %10s %10s %16s %10s %10s%s%n",
+        "instrumentation",
+        "self cpu %",
+        "incl cpu %",
+        "self alloc bytes",
+        "self alloc",
+        "incl alloc",
+        bytesPerRequestHeader);
+    for (Usage usage : ranked) {
+      Counter allocatedBytes = allocation.apply(usage);
+      System.out.format(
+          "%-50s %9.2f%% %9.2f%% %16d %9.2f%% %9.2f%%",
+          usage.instrumentation,
+          percent(usage.cpuSamples.self, totalCpuSamples),
+          percent(usage.cpuSamples.inclusive, totalCpuSamples),
+          allocatedBytes.self,
+          percent(allocatedBytes.self, totalAllocatedBytes),
+          percent(allocatedBytes.inclusive, totalAllocatedBytes));
+      if (requests > 0) {
+        System.out.format(" %16.1f", allocatedBytes.self / (double) requests);
+      }
+      System.out.println();
+    }
+  }
+
+  private static double percent(long value, long total) {
+    return total == 0 ? 0 : 100 * value / (double) total;
+  }
+
+  private static class Usage {
+    private final String instrumentation;
+    private final Counter cpuSamples = new Counter();
+    private final Counter sampledBytes = new Counter();
+    private final Counter tlabBytes = new Counter();
+
+    private Usage(String instrumentation) {
+      this.instrumentation = instrumentation;
+    }
+  }
+
+  private static class Counter {
+    private long self;
+    private long inclusive;
+  }
+
+  private OverheadAnalyzer() {}
+}
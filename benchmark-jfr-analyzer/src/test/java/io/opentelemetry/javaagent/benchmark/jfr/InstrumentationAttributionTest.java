@@ -0,0 +1,135 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class InstrumentationAttributionTest {
+
+  private static final String JDBC_ADVICE =
+      "io.opentelemetry.javaagent.instrumentation.jdbc.StatementInstrumentation$StatementAdvice";
+  private static final String EXECUTORS_RUNNABLE =
+      "io.opentelemetry.javaagent.instrumentation.executors.RunnableWrapper";
+  private static final String INSTRUMENTER =
+      "io.opentelemetry.javaagent.shaded.instrumentation.api.instrumenter.Instrumenter";
+  private static final String SDK_SPAN = "io.opentelemetry.sdk.trace.SdkSpan";
+  private static final String APPLICATION = "com.example.PetController";
+
+  @Test
+  void selfAttributesAgentCodeAtTheTopOfTheStack() {
+    List<String> stack = Arrays.asList("java.util.HashMap", SDK_SPAN, INSTRUMENTER, JDBC_ADVICE);
+
+    assertThat(InstrumentationAttribution.attributeSelf(stack)).isEqualTo("jdbc");
+    assertThat(InstrumentationAttribution.attributeInclusive(stack)).isEqualTo("jdbc");
+  }
+
+  @Test
+  void selfStopsAtApplicationCode() {
+    List<String> stack =
+        Arrays.asList(
+            "java.util.ArrayList",
+            APPLICATION,
+            "java.util.concurrent.FutureTask",
+            EXECUTORS_RUNNABLE);
+
+    assertThat(InstrumentationAttribution.attributeSelf(stack)).isNull();
+    assertThat(InstrumentationAttribution.attributeInclusive(stack)).isEqualTo("executors");
+  }
+
+  @Test
+  void selfAttributesSharedCodeCalledByApplicationToTheSharedComponent() {
+    List<String> stack = Arrays.asList(SDK_SPAN, APPLICATION, EXECUTORS_RUNNABLE);
+
+    assertThat(InstrumentationAttribution.attributeSelf(stack)).isEqualTo("(sdk)");
+    assertThat(InstrumentationAttribution.attributeInclusive(stack)).isEqualTo("executors");
+  }
+
+  @Test
+  void librariesInJavaxPackagesAreNotJdkCode() {
+    List<String> servletStack =
+        Arrays.asList(SDK_SPAN, "javax.servlet.http.HttpServlet", EXECUTORS_RUNNABLE);
+    List<String> jerseyStack =
+        Arrays.asList(
+            INSTRUMENTER, "com.sun.jersey.spi.container.WebApplicationImpl", EXECUTORS_RUNNABLE);
+
+    assertThat(InstrumentationAttribution.attributeSelf(servletStack)).isEqualTo("(sdk)");
+    assertThat(InstrumentationAttribution.attributeSelf(jerseyStack))
+        .isEqualTo("(instrumentation-api)");
+  }
+
+  @Test
+  void jdkCodeInJavaxPackagesIsSkipped() {
+    List<String> stack =
+        Arrays.asList("javax.crypto.Cipher", "com.sun.crypto.provider.AESCrypt", JDBC_ADVICE);
+
+    assertThat(InstrumentationAttribution.attributeSelf(stack)).isEqualTo("jdbc");
+  }
+
+  @Test
+  void sharedCodeOnly() {
+    List<String> stack =
+        Arrays.asList(
+            INSTRUMENTER,
+            "io.opentelemetry.javaagent.tooling.AgentInstaller",
+            "java.lang.Thread");
+
+    assertThat(InstrumentationAttribution.attributeSelf(stack)).isEqualTo("(instrumentation-api)");
+    assertThat(InstrumentationAttribution.attributeInclusive(stack))
+        .isEqualTo("(instrumentation-api)");
+  }
+
+  @Test
+  void noAgentCode() {
+    List<String> stack = Arrays.asList("java.util.HashMap", APPLICATION, "java.lang.Thread");
+
+    assertThat(InstrumentationAttribution.attributeSelf(stack)).isNull();
+    assertThat(InstrumentationAttribution.attributeInclusive(stack)).isNull();
+  }
+
+  @Test
+  void benchmarkCodeIsNotAgentCode() {
+    List<String> stack =
+        Arrays.asList("io.opentelemetry.javaagent.benchmark.jfr.SomeBenchmark", SDK_SPAN);
+
+    assertThat(InstrumentationAttribution.attributeSelf(stack)).isNull();
+    assertThat(InstrumentationAttribution.attributeInclusive(stack)).isEqualTo("(sdk)");
+  }
+
+  @Test
+  void groupsByPackageName() {
+    assertThat(
+            InstrumentationAttribution.getInstrumentation(
+                "io.opentelemetry.javaagent.instrumentation.spring.webmvc.v5_3.SpringWebMvcSingletons"))
+        .isEqualTo("spring.webmvc.v5_3");
+    assertThat(
+            InstrumentationAttribution.getInstrumentation(
+                "io.opentelemetry.javaagent.shaded.instrumentation.okhttp.v3_0.internal.TracingInterceptor"))
+        .isEqualTo("okhttp.v3_0");
+    assertThat(
+            InstrumentationAttribution.getInstrumentation(
+                "io.opentelemetry.javaagent.instrumentation.jdbc.internal.dbinfo.DbInfo"))
+        .isEqualTo("jdbc");
+    assertThat(
+            InstrumentationAttribution.getInstrumentation(
+                "io.opentelemetry.javaagent.instrumentation.jdbc.StatementInstrumentation$StatementAdvice"))
+        .isEqualTo("jdbc");
+  }
+
+  @Test
+  void doesNotTreatSharedCodeAsInstrumentation() {
+    assertThat(InstrumentationAttribution.getInstrumentation(INSTRUMENTER)).isNull();
+    assertThat(InstrumentationAttribution.getInstrumentation(SDK_SPAN)).isNull();
+    // classes directly in the instrumentation package don't belong to any instrumentation
+    assertThat(
+            InstrumentationAttribution.getInstrumentation(
+                "io.opentelemetry.javaagent.instrumentation.SomeClass"))
+        .isNull();
+  }
+}
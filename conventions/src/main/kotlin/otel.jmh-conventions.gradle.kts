@@ -1,3 +1,5 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("me.champeau.jmh")
   id("io.morethan.jmhreport")
@@ -36,3 +38,12 @@ tasks {
     outputs.cacheIf { false }
   }
 }
+
+// the errorprone plugin is applied by otel.java-conventions, which may come after this plugin
+plugins.withId("net.ltgt.errorprone") {
+  tasks.named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      isEnabled.set(false)
+    }
+  }
+}
@@ -8,6 +8,7 @@ package io.opentelemetry.instrumentation.api.incubator.semconv.db;
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableMap;
 
+import io.opentelemetry.instrumentation.api.internal.ReusableStringBuilder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
@@ -349,39 +350,65 @@ public final class RedisCommandSanitizer {
     SANITIZERS = unmodifiableMap(sanitizers);
   }
 
+  private static final ThreadLocal<CommandBuilder> threadBuilder =
+      ThreadLocal.withInitial(CommandBuilder::new);
+
+  /** Returns a new sanitizer. Commands are never cut off, see {@link #create(boolean, int)}. */
   public static RedisCommandSanitizer create(boolean statementSanitizationEnabled) {
-    return new RedisCommandSanitizer(statementSanitizationEnabled);
+    return create(statementSanitizationEnabled, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns a new sanitizer. When {@code statementSanitizationEnabled} is {@code true}, arguments
+   * that would make the sanitized command longer than {@code maxLength} characters are cut off and
+   * the command is terminated with {@code "..."}. Commands are never cut off when sanitization is
+   * disabled.
+   */
+  public static RedisCommandSanitizer create(boolean statementSanitizationEnabled, int maxLength) {
+    return new RedisCommandSanitizer(statementSanitizationEnabled, maxLength);
   }
 
   private final boolean statementSanitizationEnabled;
+  private final int maxLength;
 
-  private RedisCommandSanitizer(boolean statementSanitizationEnabled) {
+  private RedisCommandSanitizer(boolean statementSanitizationEnabled, int maxLength) {
     this.statementSanitizationEnabled = statementSanitizationEnabled;
+    // the full command is returned when sanitization is disabled
+    this.maxLength = statementSanitizationEnabled ? maxLength : Integer.MAX_VALUE;
   }
 
   public String sanitize(String command, List<?> args) {
-    if (!statementSanitizationEnabled) {
-      return KeepAllArgs.INSTANCE.sanitize(command, args);
+    CommandSanitizer sanitizer =
+        statementSanitizationEnabled ? getSanitizer(command) : KeepAllArgs.INSTANCE;
+    CommandBuilder builder = threadBuilder.get();
+    builder.start(command, maxLength);
+    sanitizer.sanitize(builder, args);
+    return builder.build();
+  }
+
+  private static CommandSanitizer getSanitizer(String command) {
+    // commands are almost always upper case already, avoid allocating a new string for those
+    CommandSanitizer sanitizer = SANITIZERS.get(command);
+    if (sanitizer == null) {
+      sanitizer = SANITIZERS.getOrDefault(command.toUpperCase(Locale.ROOT), DEFAULT);
     }
-    return SANITIZERS
-        .getOrDefault(command.toUpperCase(Locale.ROOT), DEFAULT)
-        .sanitize(command, args);
+    return sanitizer;
   }
 
   interface CommandSanitizer {
-    String sanitize(String command, List<?> args);
+    void sanitize(CommandBuilder builder, List<?> args);
   }
 
   enum KeepAllArgs implements CommandSanitizer {
     INSTANCE;
 
     @Override
-    public String sanitize(String command, List<?> args) {
-      StringBuilder sanitized = new StringBuilder(command);
+    public void sanitize(CommandBuilder builder, List<?> args) {
       for (Object arg : args) {
-        sanitized.append(" ").append(argToString(arg));
+        if (!builder.appendArg(arg)) {
+          return;
+        }
       }
-      return sanitized.toString();
     }
   }
 
@@ -395,15 +422,17 @@ public final class RedisCommandSanitizer {
     }
 
     @Override
-    public String sanitize(String command, List<?> args) {
-      StringBuilder sanitized = new StringBuilder(command);
+    public void sanitize(CommandBuilder builder, List<?> args) {
       for (int i = 0; i < numOfArgsToKeep && i < args.size(); ++i) {
-        sanitized.append(" ").append(argToString(args.get(i)));
+        if (!builder.appendArg(args.get(i))) {
+          return;
+        }
       }
       for (int i = numOfArgsToKeep; i < args.size(); ++i) {
-        sanitized.append(" ?");
+        if (!builder.appendMask()) {
+          return;
+        }
       }
-      return sanitized.toString();
     }
   }
 
@@ -417,18 +446,20 @@ public final class RedisCommandSanitizer {
     }
 
     @Override
-    public String sanitize(String command, List<?> args) {
-      StringBuilder sanitized = new StringBuilder(command);
+    public void sanitize(CommandBuilder builder, List<?> args) {
       // append all "initial" arguments before key-value pairs start
       for (int i = 0; i < numOfArgsBeforeKeyValue && i < args.size(); ++i) {
-        sanitized.append(" ").append(argToString(args.get(i)));
+        if (!builder.appendArg(args.get(i))) {
+          return;
+        }
       }
 
       // loop over keys only
       for (int i = numOfArgsBeforeKeyValue; i < args.size(); i += 2) {
-        sanitized.append(" ").append(argToString(args.get(i))).append(" ?");
+        if (!builder.appendArg(args.get(i)) || !builder.appendMask()) {
+          return;
+        }
       }
-      return sanitized.toString();
     }
   }
 
@@ -436,9 +467,7 @@ public final class RedisCommandSanitizer {
     INSTANCE;
 
     @Override
-    public String sanitize(String command, List<?> args) {
-      StringBuilder sanitized = new StringBuilder(command);
-
+    public void sanitize(CommandBuilder builder, List<?> args) {
       // get the number of keys passed from the command itself (second arg)
       int numberOfKeys = 0;
       if (args.size() > 2) {
@@ -452,13 +481,80 @@ public final class RedisCommandSanitizer {
       int i = 0;
       // log the script, number of keys and all keys
       for (; i < (numberOfKeys + 2) && i < args.size(); ++i) {
-        sanitized.append(" ").append(argToString(args.get(i)));
+        if (!builder.appendArg(args.get(i))) {
+          return;
+        }
       }
       // mask the rest
       for (; i < args.size(); ++i) {
-        sanitized.append(" ?");
+        if (!builder.appendMask()) {
+          return;
+        }
+      }
+    }
+  }
+
+  // reusable, per-thread builder of the sanitized command that enforces the max length
+  static final class CommandBuilder {
+    private static final String TRUNCATED = "...";
+
+    private final ReusableStringBuilder reusableBuilder = new ReusableStringBuilder(64);
+    private StringBuilder builder = reusableBuilder.start();
+    private int maxLength;
+    private boolean truncated;
+
+    void start(String command, int maxLength) {
+      builder = reusableBuilder.start();
+      this.maxLength = maxLength;
+      truncated = false;
+      append(command);
+    }
+
+    /** Returns {@code false} when the max length was reached and no more arguments fit. */
+    boolean appendArg(Object arg) {
+      if (!appendSeparator()) {
+        return false;
+      }
+      if (arg instanceof byte[]) {
+        byte[] bytes = (byte[]) arg;
+        int remaining = maxLength - builder.length();
+        if (bytes.length > remaining) {
+          // a UTF-8 string never has more characters than bytes, so decoding only as many bytes
+          // as there are characters left is enough
+          builder.append(new String(bytes, 0, remaining, StandardCharsets.UTF_8));
+          truncated = true;
+          return false;
+        }
+        return append(new String(bytes, StandardCharsets.UTF_8));
+      }
+      return append(String.valueOf(arg));
+    }
+
+    /** Returns {@code false} when the max length was reached and no more arguments fit. */
+    boolean appendMask() {
+      return appendSeparator() && append("?");
+    }
+
+    private boolean appendSeparator() {
+      return append(" ");
+    }
+
+    private boolean append(String value) {
+      int remaining = maxLength - builder.length();
+      if (value.length() > remaining) {
+        builder.append(value, 0, remaining);
+        truncated = true;
+        return false;
+      }
+      builder.append(value);
+      return true;
+    }
+
+    String build() {
+      if (truncated) {
+        builder.append(TRUNCATED);
       }
-      return sanitized.toString();
+      return reusableBuilder.finish();
     }
   }
 
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.instrumentation.api.incubator.semconv.db;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 import java.util.Arrays;
@@ -41,6 +42,66 @@ class RedisCommandSanitizerTest {
     assertThat(result).isEqualTo("NEWAUTH ? ?");
   }
 
+  @Test
+  void shouldLookUpCommandCaseInsensitively() {
+    String result = RedisCommandSanitizer.create(true).sanitize("set", list("key", "value"));
+    assertThat(result).isEqualTo("set key ?");
+  }
+
+  @Test
+  void shouldKeepAllArgumentsWhenSanitizationDisabled() {
+    String result = RedisCommandSanitizer.create(false).sanitize("AUTH", list("password"));
+    assertThat(result).isEqualTo("AUTH password");
+  }
+
+  @Test
+  void shouldStopAtMaxLength() {
+    RedisCommandSanitizer sanitizer = RedisCommandSanitizer.create(true, 18);
+
+    assertThat(sanitizer.sanitize("MSET", list("key1", "value1", "key2", "value2")))
+        .isEqualTo("MSET key1 ? key2 ?");
+    assertThat(sanitizer.sanitize("MSET", list("key1", "v", "key2", "v", "key3", "v")))
+        .isEqualTo("MSET key1 ? key2 ?...");
+    assertThat(sanitizer.sanitize("GET", list("averyveryverylongkey")))
+        .isEqualTo("GET averyveryveryl...");
+    assertThat(sanitizer.sanitize("MSET", list("key1", "value1", "key2", "value2")))
+        .isEqualTo("MSET key1 ? key2 ?");
+  }
+
+  @Test
+  void shouldStopAtMaxLengthForBinaryArguments() {
+    RedisCommandSanitizer sanitizer = RedisCommandSanitizer.create(true, 10);
+
+    String result = sanitizer.sanitize("GET", Arrays.asList("binarykey".getBytes(UTF_8)));
+    assertThat(result).isEqualTo("GET binary...");
+  }
+
+  @Test
+  void shouldNotStopWithoutMaxLength() {
+    String key = repeat('k', 40 * 1024);
+
+    String result = RedisCommandSanitizer.create(true).sanitize("GET", list(key));
+    assertThat(result).isEqualTo("GET " + key);
+  }
+
+  @Test
+  void shouldNotStopAtMaxLengthWhenSanitizationDisabled() {
+    String value = repeat('v', 40 * 1024);
+
+    assertThat(RedisCommandSanitizer.create(false).sanitize("SET", list("key", value)))
+        .isEqualTo("SET key " + value);
+    assertThat(
+            RedisCommandSanitizer.create(false, 10)
+                .sanitize("SET", Arrays.asList("key".getBytes(UTF_8), value.getBytes(UTF_8))))
+        .isEqualTo("SET key " + value);
+  }
+
+  private static String repeat(char c, int count) {
+    char[] chars = new char[count];
+    Arrays.fill(chars, c);
+    return new String(chars);
+  }
+
   static class SanitizeArgs implements ArgumentsProvider {
 
     @Override
@@ -0,0 +1,74 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RedisCommandSanitizerBenchmark {
+
+  private static final RedisCommandSanitizer sanitizer = RedisCommandSanitizer.create(true);
+
+  private static final List<Object> getArgs = Arrays.asList("user:1234:profile");
+  private static final List<Object> setArgs =
+      Arrays.asList("user:1234:profile".getBytes(UTF_8), "{\"name\":\"john\"}".getBytes(UTF_8));
+  private static final List<Object> msetArgs =
+      Arrays.asList("key1", "value1", "key2", "value2", "key3", "value3", "key4", "value4");
+  private static final List<Object> evalArgs =
+      Arrays.asList(
+          "return redis.call('set', KEYS[1], ARGV[1])", "1", "rate:limit:client", "100", "60");
+
+  @Benchmark
+  public String get() {
+    return sanitizer.sanitize("GET", getArgs);
+  }
+
+  @Benchmark
+  public String set() {
+    return sanitizer.sanitize("SET", setArgs);
+  }
+
+  @Benchmark
+  public String mset() {
+    return sanitizer.sanitize("MSET", msetArgs);
+  }
+
+  @Benchmark
+  public String eval() {
+    return sanitizer.sanitize("EVAL", evalArgs);
+  }
+
+  // a typical pipelined mix dominated by reads
+  @Benchmark
+  public void mix(Blackhole blackhole) {
+    for (int i = 0; i < 6; i++) {
+      blackhole.consume(sanitizer.sanitize("GET", getArgs));
+    }
+    blackhole.consume(sanitizer.sanitize("set", setArgs));
+    blackhole.consume(sanitizer.sanitize("SET", setArgs));
+    blackhole.consume(sanitizer.sanitize("MSET", msetArgs));
+    blackhole.consume(sanitizer.sanitize("EVAL", evalArgs));
+  }
+}
@@ -54,6 +54,15 @@ public class InstrumenterBenchmark {
     return context;
   }
 
+  @Benchmark
+  public boolean startNestedEnd() {
+    Context context = INSTRUMENTER.start(Context.root(), null);
+    // a nested http client call, e.g. a library delegating to another instrumented library
+    boolean nestedStarted = INSTRUMENTER.shouldStart(context, null);
+    INSTRUMENTER.end(context, null, null, null);
+    return nestedStarted;
+  }
+
   enum ConstantHttpAttributesGetter implements HttpClientAttributesGetter<Void, Void> {
     INSTANCE;
 
@@ -0,0 +1,503 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.SqlClientAttributesExtractor;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.SqlClientAttributesGetter;
+import io.opentelemetry.instrumentation.api.incubator.semconv.messaging.MessageOperation;
+import io.opentelemetry.instrumentation.api.incubator.semconv.messaging.MessagingAttributesExtractor;
+import io.opentelemetry.instrumentation.api.incubator.semconv.messaging.MessagingAttributesGetter;
+import io.opentelemetry.instrumentation.api.incubator.semconv.rpc.RpcAttributesGetter;
+import io.opentelemetry.instrumentation.api.incubator.semconv.rpc.RpcClientAttributesExtractor;
+import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpClientAttributesExtractor;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpClientAttributesGetter;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpServerAttributesExtractor;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpServerAttributesGetter;
+import io.opentelemetry.instrumentation.api.semconv.network.ClientAttributesExtractor;
+import io.opentelemetry.instrumentation.api.semconv.network.NetworkAttributesExtractor;
+import io.opentelemetry.instrumentation.api.semconv.network.ServerAttributesExtractor;
+import io.opentelemetry.instrumentation.api.semconv.url.UrlAttributesExtractor;
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code onStart()} followed by {@code onEnd()} of each of the semantic convention
+ * attributes extractors, the way an {@code Instrumenter} calls them for every span.
+ *
+ * <p>The getters read from plain request/response objects (headers are looked up in a map, the url
+ * is split into its components) rather than returning constants, so that the results reflect what
+ * a typical library instrumentation pays. Run with the gc profiler (enabled by default in this
+ * build) and compare {@code gc.alloc.rate.norm} to get the bytes allocated per call; note that this
+ * includes the attributes builder and the built {@link Attributes}.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Thread)
+public class AttributesExtractorBenchmark {
+
+  private static final AttributesExtractor<HttpRequest, HttpResponse> HTTP_SERVER =
+      HttpServerAttributesExtractor.create(ServerGetter.INSTANCE);
+  private static final AttributesExtractor<HttpRequest, HttpResponse> HTTP_CLIENT =
+      HttpClientAttributesExtractor.create(ClientGetter.INSTANCE);
+  private static final AttributesExtractor<HttpRequest, HttpResponse> NETWORK =
+      NetworkAttributesExtractor.create(ServerGetter.INSTANCE);
+  private static final AttributesExtractor<HttpRequest, HttpResponse> SERVER =
+      ServerAttributesExtractor.create(ClientGetter.INSTANCE);
+  private static final AttributesExtractor<HttpRequest, HttpResponse> CLIENT =
+      ClientAttributesExtractor.create(ServerGetter.INSTANCE);
+  private static final AttributesExtractor<HttpRequest, HttpResponse> URL =
+      UrlAttributesExtractor.create(ServerGetter.INSTANCE);
+  private static final AttributesExtractor<DbRequest, Void> SQL_CLIENT =
+      SqlClientAttributesExtractor.create(SqlGetter.INSTANCE);
+  private static final AttributesExtractor<MessageRequest, MessageResponse> MESSAGING =
+      MessagingAttributesExtractor.create(MessagingGetter.INSTANCE, MessageOperation.PUBLISH);
+  private static final AttributesExtractor<RpcRequest, Void> RPC_CLIENT =
+      RpcClientAttributesExtractor.create(RpcGetter.INSTANCE);
+
+  private static final HttpRequest HTTP_SERVER_REQUEST =
+      new HttpRequest(
+          "GET",
+          "http://petclinic.example.com:8080/owners/123/pets?sort=name&page=2",
+          "petclinic.example.com:8080",
+          new InetSocketAddress("10.1.2.3", 51234),
+          new InetSocketAddress("10.1.2.4", 8080));
+  private static final HttpRequest HTTP_CLIENT_REQUEST =
+      new HttpRequest(
+          "POST",
+          "https://api.example.com/v1/orders?expand=items",
+          "api.example.com",
+          new InetSocketAddress("93.184.216.34", 443),
+          new InetSocketAddress("10.1.2.4", 47890));
+  private static final HttpResponse HTTP_RESPONSE = new HttpResponse(200);
+  private static final DbRequest DB_REQUEST =
+      new DbRequest(
+          "postgresql",
+          "petclinic",
+          "SELECT id, first_name, last_name FROM owners WHERE last_name LIKE 'Dav%' AND id > 10");
+  private static final MessageRequest MESSAGE_REQUEST =
+      new MessageRequest("orders", "a3f8c2e0-5d1b-4c8e-9f7a-2b6d4e1c0a9f", 512);
+  private static final MessageResponse MESSAGE_RESPONSE = new MessageResponse("orders-0@42");
+  private static final RpcRequest RPC_REQUEST =
+      new RpcRequest("grpc", "example.OrderService", "GetOrder");
+
+  @Benchmark
+  public Attributes httpServer() {
+    return run(HTTP_SERVER, HTTP_SERVER_REQUEST, HTTP_RESPONSE);
+  }
+
+  @Benchmark
+  public Attributes httpClient() {
+    return run(HTTP_CLIENT, HTTP_CLIENT_REQUEST, HTTP_RESPONSE);
+  }
+
+  @Benchmark
+  public Attributes network() {
+    return run(NETWORK, HTTP_SERVER_REQUEST, HTTP_RESPONSE);
+  }
+
+  @Benchmark
+  public Attributes server() {
+    return run(SERVER, HTTP_CLIENT_REQUEST, HTTP_RESPONSE);
+  }
+
+  @Benchmark
+  public Attributes client() {
+    return run(CLIENT, HTTP_SERVER_REQUEST, HTTP_RESPONSE);
+  }
+
+  @Benchmark
+  public Attributes url() {
+    return run(URL, HTTP_SERVER_REQUEST, HTTP_RESPONSE);
+  }
+
+  @Benchmark
+  public Attributes sqlClient() {
+    return run(SQL_CLIENT, DB_REQUEST, null);
+  }
+
+  @Benchmark
+  public Attributes messaging() {
+    return run(MESSAGING, MESSAGE_REQUEST, MESSAGE_RESPONSE);
+  }
+
+  @Benchmark
+  public Attributes rpcClient() {
+    return run(RPC_CLIENT, RPC_REQUEST, null);
+  }
+
+  private static <REQUEST, RESPONSE> Attributes run(
+      AttributesExtractor<REQUEST, RESPONSE> extractor,
+      REQUEST request,
+      @Nullable RESPONSE response) {
+    AttributesBuilder attributes = Attributes.builder();
+    Context context = Context.root();
+    extractor.onStart(attributes, context, request);
+    extractor.onEnd(attributes, context, request, response, null);
+    return attributes.build();
+  }
+
+  static final class HttpRequest {
+    final String method;
+    final String url;
+    final String scheme;
+    final String host;
+    final int port;
+    final String path;
+    @Nullable final String query;
+    final Map<String, List<String>> headers = new HashMap<>();
+    final InetSocketAddress peerAddress;
+    final InetSocketAddress localAddress;
+
+    HttpRequest(
+        String method,
+        String url,
+        String hostHeader,
+        InetSocketAddress peerAddress,
+        InetSocketAddress localAddress) {
+      this.method = method;
+      this.url = url;
+      int schemeEnd = url.indexOf("://");
+      this.scheme = url.substring(0, schemeEnd);
+      int pathStart = url.indexOf('/', schemeEnd + 3);
+      int queryStart = url.indexOf('?', pathStart);
+      this.path =
+          queryStart == -1 ? url.substring(pathStart) : url.substring(pathStart, queryStart);
+      this.query = queryStart == -1 ? null : url.substring(queryStart + 1);
+      int portStart = hostHeader.indexOf(':');
+      this.host = portStart == -1 ? hostHeader : hostHeader.substring(0, portStart);
+      this.port =
+          portStart == -1
+              ? ("https".equals(scheme) ? 443 : 80)
+              : Integer.parseInt(hostHeader.substring(portStart + 1));
+      this.peerAddress = peerAddress;
+      this.localAddress = localAddress;
+      headers.put("host", singletonList(hostHeader));
+      headers.put("user-agent", singletonList("Mozilla/5.0 (X11; Linux x86_64) Firefox/120.0"));
+      headers.put("accept", singletonList("text/html,application/json"));
+    }
+
+    List<String> getHeader(String name) {
+      List<String> values = headers.get(name);
+      return values == null ? emptyList() : values;
+    }
+  }
+
+  static final class HttpResponse {
+    final int statusCode;
+    final Map<String, List<String>> headers = new HashMap<>();
+
+    HttpResponse(int statusCode) {
+      this.statusCode = statusCode;
+      headers.put("content-type", singletonList("application/json"));
+    }
+  }
+
+  enum ServerGetter implements HttpServerAttributesGetter<HttpRequest, HttpResponse> {
+    INSTANCE;
+
+    @Override
+    public String getHttpRequestMethod(HttpRequest request) {
+      return request.method;
+    }
+
+    @Override
+    public String getUrlScheme(HttpRequest request) {
+      return request.scheme;
+    }
+
+    @Override
+    public String getUrlPath(HttpRequest request) {
+      return request.path;
+    }
+
+    @Nullable
+    @Override
+    public String getUrlQuery(HttpRequest request) {
+      return request.query;
+    }
+
+    @Override
+    public List<String> getHttpRequestHeader(HttpRequest request, String name) {
+      return request.getHeader(name);
+    }
+
+    @Override
+    public Integer getHttpResponseStatusCode(
+        HttpRequest request, HttpResponse response, @Nullable Throwable error) {
+      return response.statusCode;
+    }
+
+    @Override
+    public List<String> getHttpResponseHeader(
+        HttpRequest request, HttpResponse response, String name) {
+      List<String> values = response.headers.get(name);
+      return values == null ? emptyList() : values;
+    }
+
+    @Override
+    public String getNetworkProtocolName(HttpRequest request, @Nullable HttpResponse response) {
+      return "http";
+    }
+
+    @Override
+    public String getNetworkProtocolVersion(HttpRequest request, @Nullable HttpResponse response) {
+      return "1.1";
+    }
+
+    @Override
+    public InetSocketAddress getNetworkPeerInetSocketAddress(
+        HttpRequest request, @Nullable HttpResponse response) {
+      return request.peerAddress;
+    }
+
+    @Override
+    public InetSocketAddress getNetworkLocalInetSocketAddress(
+        HttpRequest request, @Nullable HttpResponse response) {
+      return request.localAddress;
+    }
+  }
+
+  enum ClientGetter implements HttpClientAttributesGetter<HttpRequest, HttpResponse> {
+    INSTANCE;
+
+    @Override
+    public String getUrlFull(HttpRequest request) {
+      return request.url;
+    }
+
+    @Override
+    public String getHttpRequestMethod(HttpRequest request) {
+      return request.method;
+    }
+
+    @Override
+    public List<String> getHttpRequestHeader(HttpRequest request, String name) {
+      return request.getHeader(name);
+    }
+
+    @Override
+    public Integer getHttpResponseStatusCode(
+        HttpRequest request, HttpResponse response, @Nullable Throwable error) {
+      return response.statusCode;
+    }
+
+    @Override
+    public List<String> getHttpResponseHeader(
+        HttpRequest request, HttpResponse response, String name) {
+      List<String> values = response.headers.get(name);
+      return values == null ? emptyList() : values;
+    }
+
+    @Override
+    public String getNetworkProtocolName(HttpRequest request, @Nullable HttpResponse response) {
+      return "http";
+    }
+
+    @Override
+    public String getNetworkProtocolVersion(HttpRequest request, @Nullable HttpResponse response) {
+      return "2";
+    }
+
+    @Override
+    public String getServerAddress(HttpRequest request) {
+      return request.host;
+    }
+
+    @Override
+    public Integer getServerPort(HttpRequest request) {
+      return request.port;
+    }
+
+    @Override
+    public InetSocketAddress getNetworkPeerInetSocketAddress(
+        HttpRequest request, @Nullable HttpResponse response) {
+      return request.peerAddress;
+    }
+  }
+
+  static final class DbRequest {
+    final String system;
+    final String namespace;
+    final Collection<String> queryTexts;
+
+    DbRequest(String system, String namespace, String queryText) {
+      this.system = system;
+      this.namespace = namespace;
+      this.queryTexts = singletonList(queryText);
+    }
+  }
+
+  enum SqlGetter implements SqlClientAttributesGetter<DbRequest> {
+    INSTANCE;
+
+    @Override
+    public String getDbSystem(DbRequest request) {
+      return request.system;
+    }
+
+    @Deprecated
+    @Nullable
+    @Override
+    public String getUser(DbRequest request) {
+      return null;
+    }
+
+    @Override
+    public String getDbNamespace(DbRequest request) {
+      return request.namespace;
+    }
+
+    @Deprecated
+    @Nullable
+    @Override
+    public String getConnectionString(DbRequest request) {
+      return null;
+    }
+
+    @Override
+    public Collection<String> getRawQueryTexts(DbRequest request) {
+      return request.queryTexts;
+    }
+  }
+
+  static final class MessageRequest {
+    final String destination;
+    final String conversationId;
+    final long bodySize;
+
+    MessageRequest(String destination, String conversationId, long bodySize) {
+      this.destination = destination;
+      this.conversationId = conversationId;
+      this.bodySize = bodySize;
+    }
+  }
+
+  static final class MessageResponse {
+    final String messageId;
+
+    MessageResponse(String messageId) {
+      this.messageId = messageId;
+    }
+  }
+
+  enum MessagingGetter implements MessagingAttributesGetter<MessageRequest, MessageResponse> {
+    INSTANCE;
+
+    @Override
+    public String getSystem(MessageRequest request) {
+      return "kafka";
+    }
+
+    @Override
+    public String getDestination(MessageRequest request) {
+      return request.destination;
+    }
+
+    @Nullable
+    @Override
+    public String getDestinationTemplate(MessageRequest request) {
+      return null;
+    }
+
+    @Override
+    public boolean isTemporaryDestination(MessageRequest request) {
+      return false;
+    }
+
+    @Override
+    public boolean isAnonymousDestination(MessageRequest request) {
+      return false;
+    }
+
+    @Override
+    public String getConversationId(MessageRequest request) {
+      return request.conversationId;
+    }
+
+    @Override
+    public Long getMessageBodySize(MessageRequest request) {
+      return request.bodySize;
+    }
+
+    @Nullable
+    @Override
+    public Long getMessageEnvelopeSize(MessageRequest request) {
+      return null;
+    }
+
+    @Nullable
+    @Override
+    public String getMessageId(MessageRequest request, @Nullable MessageResponse response) {
+      return response == null ? null : response.messageId;
+    }
+
+    @Override
+    public String getClientId(MessageRequest request) {
+      return "producer-1";
+    }
+
+    @Nullable
+    @Override
+    public Long getBatchMessageCount(MessageRequest request, @Nullable MessageResponse response) {
+      return null;
+    }
+  }
+
+  static final class RpcRequest {
+    final String system;
+    final String service;
+    final String method;
+
+    RpcRequest(String system, String service, String method) {
+      this.system = system;
+      this.service = service;
+      this.method = method;
+    }
+  }
+
+  enum RpcGetter implements RpcAttributesGetter<RpcRequest> {
+    INSTANCE;
+
+    @Override
+    public String getSystem(RpcRequest request) {
+      return request.system;
+    }
+
+    @Override
+    public String getService(RpcRequest request) {
+      return request.service;
+    }
+
+    @Override
+    public String getMethod(RpcRequest request) {
+      return request.method;
+    }
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.http;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+import io.opentelemetry.instrumentation.api.semconv.network.internal.AddressAndPort;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures extracting the client address, server address and url scheme of a server request that
+ * went through a chain of proxies, using header values as sent by common load balancers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ForwardedHeadersBenchmark {
+
+  private static final HttpServerAddressAndPortExtractor<Map<String, List<String>>>
+      CLIENT_ADDRESS = new HttpServerAddressAndPortExtractor<>(HeadersGetter.INSTANCE);
+  private static final ForwardedHostAddressAndPortExtractor<Map<String, List<String>>>
+      SERVER_ADDRESS = new ForwardedHostAddressAndPortExtractor<>(HeadersGetter.INSTANCE);
+  private static final ForwardedUrlSchemeProvider<Map<String, List<String>>> URL_SCHEME =
+      new ForwardedUrlSchemeProvider<>(HeadersGetter.INSTANCE);
+
+  @Param({"forwarded", "forwardedIpv6", "xForwarded"})
+  public String headers;
+
+  private final Map<String, List<String>> request = new HashMap<>();
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    switch (headers) {
+      case "forwarded":
+        // RFC 7239 header from a CDN and an internal load balancer
+        request.put(
+            "forwarded",
+            singletonList(
+                "for=203.0.113.195;host=shop.example.com;proto=https,"
+                    + " for=198.51.100.17;host=lb.internal;proto=http"));
+        break;
+      case "forwardedIpv6":
+        request.put(
+            "forwarded",
+            singletonList(
+                "for=\"[2001:db8:cafe::17]:4711\";proto=https;host=\"shop.example.com:443\","
+                    + " for=198.51.100.17"));
+        break;
+      case "xForwarded":
+        // as set by e.g. AWS ALB, nginx and envoy
+        request.put("x-forwarded-for", singletonList("203.0.113.195, 70.41.3.18, 150.172.238.178"));
+        request.put("x-forwarded-host", singletonList("shop.example.com:8443, lb.internal"));
+        request.put("x-forwarded-proto", singletonList("https"));
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown headers: " + headers);
+    }
+    request.put("host", singletonList("10.0.12.34:8080"));
+  }
+
+  @Benchmark
+  public AddressAndPort clientAddress() {
+    AddressAndPort sink = new AddressAndPort();
+    CLIENT_ADDRESS.extract(sink, request);
+    return sink;
+  }
+
+  @Benchmark
+  public AddressAndPort serverAddress() {
+    AddressAndPort sink = new AddressAndPort();
+    SERVER_ADDRESS.extract(sink, request);
+    return sink;
+  }
+
+  @Benchmark
+  public String urlScheme() {
+    return URL_SCHEME.apply(request);
+  }
+
+  enum HeadersGetter implements HttpServerAttributesGetter<Map<String, List<String>>, Void> {
+    INSTANCE;
+
+    @Override
+    public String getHttpRequestMethod(Map<String, List<String>> request) {
+      return "GET";
+    }
+
+    @Override
+    public String getUrlScheme(Map<String, List<String>> request) {
+      return "http";
+    }
+
+    @Override
+    public String getUrlPath(Map<String, List<String>> request) {
+      return "/";
+    }
+
+    @Nullable
+    @Override
+    public String getUrlQuery(Map<String, List<String>> request) {
+      return null;
+    }
+
+    @Override
+    public List<String> getHttpRequestHeader(Map<String, List<String>> request, String name) {
+      List<String> values = request.get(name);
+      return values == null ? emptyList() : values;
+    }
+
+    @Nullable
+    @Override
+    public Integer getHttpResponseStatusCode(
+        Map<String, List<String>> request, Void response, @Nullable Throwable error) {
+      return null;
+    }
+
+    @Override
+    public List<String> getHttpResponseHeader(
+        Map<String, List<String>> request, Void response, String name) {
+      return emptyList();
+    }
+  }
+}
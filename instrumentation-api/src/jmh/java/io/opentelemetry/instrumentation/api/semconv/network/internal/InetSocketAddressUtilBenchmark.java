@@ -0,0 +1,57 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.network.internal;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares formatting the peer address of a connection for every request with the cached address
+ * returned by {@link InetSocketAddressUtil}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class InetSocketAddressUtilBenchmark {
+
+  @Param({"203.0.113.195", "2001:db8:cafe:0:0:0:0:17"})
+  public String peer;
+
+  private InetSocketAddress peerAddress;
+
+  @Setup(Level.Trial)
+  public void setUp() throws UnknownHostException {
+    // a literal address, this doesn't do a lookup
+    peerAddress = new InetSocketAddress(InetAddress.getByName(peer), 51234);
+  }
+
+  @Benchmark
+  public String getHostAddress() {
+    return peerAddress.getAddress().getHostAddress();
+  }
+
+  @Benchmark
+  public String getIpAddress() {
+    return InetSocketAddressUtil.getIpAddress(peerAddress);
+  }
+}
@@ -70,20 +70,12 @@ final class SpanSuppressors {
 
     @Override
     public Context storeInContext(Context context, SpanKind spanKind, Span span) {
-      for (SpanKey spanKey : spanKeys) {
-        context = spanKey.storeInContext(context, span);
-      }
-      return context;
+      return SpanKey.storeInContext(context, spanKeys, span);
     }
 
     @Override
     public boolean shouldSuppress(Context parentContext, SpanKind spanKind) {
-      for (SpanKey spanKey : spanKeys) {
-        if (spanKey.fromContextOrNull(parentContext) == null) {
-          return false;
-        }
-      }
-      return true;
+      return SpanKey.allStoredInContext(parentContext, spanKeys);
     }
   }
 
@@ -0,0 +1,67 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import javax.annotation.Nullable;
+
+/**
+ * Caches http server routes computed from a framework handler (e.g. a route or an action config)
+ * and an optional qualifier (e.g. the route prefix inherited from an enclosing router).
+ *
+ * <p>Handlers are referenced weakly and compared using identity comparison. Qualifiers are
+ * referenced strongly and compared using {@link Object#equals(Object)}, so they must not reference
+ * the handler. At most {@value #MAX_ROUTES_PER_HANDLER} routes are cached per handler, routes for
+ * any further qualifiers are computed on every call.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class HttpServerRouteCache<H, Q> {
+
+  // visible for tests
+  static final int MAX_ROUTES_PER_HANDLER = 32;
+
+  private static final Object NULL_QUALIFIER = new Object();
+
+  private final Cache<H, Map<Object, String>> routes = Cache.weak();
+  private final BiFunction<? super H, ? super Q, String> routeFunction;
+
+  private HttpServerRouteCache(BiFunction<? super H, ? super Q, String> routeFunction) {
+    this.routeFunction = routeFunction;
+  }
+
+  /**
+   * Returns a new cache that uses {@code routeFunction} to compute the route of a handler and
+   * qualifier pair. {@code routeFunction} must not capture the handler.
+   */
+  public static <H, Q> HttpServerRouteCache<H, Q> create(
+      BiFunction<? super H, ? super Q, String> routeFunction) {
+    return new HttpServerRouteCache<>(routeFunction);
+  }
+
+  /**
+   * Returns the route for the given {@code handler} and {@code qualifier}, computing it if it is not
+   * cached yet. {@code null} routes are not cached.
+   */
+  @Nullable
+  public String get(H handler, @Nullable Q qualifier) {
+    Map<Object, String> handlerRoutes =
+        routes.computeIfAbsent(handler, unused -> new ConcurrentHashMap<>());
+    Object key = qualifier != null ? qualifier : NULL_QUALIFIER;
+    String route = handlerRoutes.get(key);
+    if (route == null) {
+      route = routeFunction.apply(handler, qualifier);
+      if (route != null && handlerRoutes.size() < MAX_ROUTES_PER_HANDLER) {
+        handlerRoutes.put(key, route);
+      }
+    }
+    return route;
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+/**
+ * A {@link StringBuilder} that is reused for building many strings, e.g. by keeping one per thread.
+ * The builder is replaced after building an unusually long string, so that a single huge value
+ * does not keep a huge buffer alive for as long as the owner of this builder lives.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ReusableStringBuilder {
+
+  private static final int MAX_RETAINED_CAPACITY = 4096;
+
+  private final int initialCapacity;
+  private StringBuilder builder;
+
+  public ReusableStringBuilder(int initialCapacity) {
+    this.initialCapacity = initialCapacity;
+    this.builder = new StringBuilder(initialCapacity);
+  }
+
+  /** Returns the empty builder. */
+  public StringBuilder start() {
+    builder.setLength(0);
+    return builder;
+  }
+
+  /** Returns the built string, and replaces the builder if it has grown too large. */
+  public String finish() {
+    String result = builder.toString();
+    release();
+    return result;
+  }
+
+  /**
+   * Replaces the builder if it has grown too large. Call this instead of {@link #finish()} when the
+   * built string is not needed, e.g. because an equal string was found in a cache.
+   */
+  public void release() {
+    if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+      builder = new StringBuilder(initialCapacity);
+    }
+  }
+}
@@ -18,75 +18,115 @@ import javax.annotation.Nullable;
  */
 public final class SpanKey {
 
-  /* Context keys */
+  /* Context key */
 
-  // span kind keys
-  private static final ContextKey<Span> KIND_SERVER_KEY =
-      ContextKey.named("opentelemetry-traces-span-key-kind-server");
-  private static final ContextKey<Span> KIND_CLIENT_KEY =
-      ContextKey.named("opentelemetry-traces-span-key-kind-client");
-  private static final ContextKey<Span> KIND_CONSUMER_KEY =
-      ContextKey.named("opentelemetry-traces-span-key-kind-consumer");
-  private static final ContextKey<Span> KIND_PRODUCER_KEY =
-      ContextKey.named("opentelemetry-traces-span-key-kind-producer");
-
-  // semantic convention keys
-  private static final ContextKey<Span> HTTP_SERVER_KEY =
-      ContextKey.named("opentelemetry-traces-span-key-http-server");
-  private static final ContextKey<Span> RPC_SERVER_KEY =
-      ContextKey.named("opentelemetry-traces-span-key-rpc-server");
-
-  private static final ContextKey<Span> HTTP_CLIENT_KEY =
-      ContextKey.named("opentelemetry-traces-span-key-http-client");
-  private static final ContextKey<Span> RPC_CLIENT_KEY =
-      ContextKey.named("opentelemetry-traces-span-key-rpc-client");
-  private static final ContextKey<Span> DB_CLIENT_KEY =
-      ContextKey.named("opentelemetry-traces-span-key-db-client");
-
-  private static final ContextKey<Span> PRODUCER_KEY =
-      ContextKey.named("opentelemetry-traces-span-key-producer");
-  private static final ContextKey<Span> CONSUMER_RECEIVE_KEY =
-      ContextKey.named("opentelemetry-traces-span-key-consumer-receive");
-  private static final ContextKey<Span> CONSUMER_PROCESS_KEY =
-      ContextKey.named("opentelemetry-traces-span-key-consumer-process");
+  // spans of all span keys are stored in a single context entry, so that checking (and storing)
+  // several span keys takes one context lookup (and insertion) instead of one per span key
+  private static final ContextKey<SpanKeyState> KEY =
+      ContextKey.named("opentelemetry-traces-span-keys");
 
   /* Span keys */
 
   // span kind keys
-  public static final SpanKey KIND_SERVER = new SpanKey(KIND_SERVER_KEY);
-  public static final SpanKey KIND_CLIENT = new SpanKey(KIND_CLIENT_KEY);
-  public static final SpanKey KIND_CONSUMER = new SpanKey(KIND_CONSUMER_KEY);
-  public static final SpanKey KIND_PRODUCER = new SpanKey(KIND_PRODUCER_KEY);
+  public static final SpanKey KIND_SERVER = new SpanKey("kind-server", 0);
+  public static final SpanKey KIND_CLIENT = new SpanKey("kind-client", 1);
+  public static final SpanKey KIND_CONSUMER = new SpanKey("kind-consumer", 2);
+  public static final SpanKey KIND_PRODUCER = new SpanKey("kind-producer", 3);
 
   // semantic convention keys
-  public static final SpanKey HTTP_SERVER = new SpanKey(HTTP_SERVER_KEY);
-  public static final SpanKey RPC_SERVER = new SpanKey(RPC_SERVER_KEY);
+  public static final SpanKey HTTP_SERVER = new SpanKey("http-server", 4);
+  public static final SpanKey RPC_SERVER = new SpanKey("rpc-server", 5);
 
-  public static final SpanKey HTTP_CLIENT = new SpanKey(HTTP_CLIENT_KEY);
-  public static final SpanKey RPC_CLIENT = new SpanKey(RPC_CLIENT_KEY);
-  public static final SpanKey DB_CLIENT = new SpanKey(DB_CLIENT_KEY);
+  public static final SpanKey HTTP_CLIENT = new SpanKey("http-client", 6);
+  public static final SpanKey RPC_CLIENT = new SpanKey("rpc-client", 7);
+  public static final SpanKey DB_CLIENT = new SpanKey("db-client", 8);
 
-  public static final SpanKey PRODUCER = new SpanKey(PRODUCER_KEY);
-  public static final SpanKey CONSUMER_RECEIVE = new SpanKey(CONSUMER_RECEIVE_KEY);
-  public static final SpanKey CONSUMER_PROCESS = new SpanKey(CONSUMER_PROCESS_KEY);
+  public static final SpanKey PRODUCER = new SpanKey("producer", 9);
+  public static final SpanKey CONSUMER_RECEIVE = new SpanKey("consumer-receive", 10);
+  public static final SpanKey CONSUMER_PROCESS = new SpanKey("consumer-process", 11);
 
-  private final ContextKey<Span> key;
+  private final String name;
+  private final int mask;
 
-  private SpanKey(ContextKey<Span> key) {
-    this.key = key;
+  private SpanKey(String name, int index) {
+    this.name = "opentelemetry-traces-span-key-" + name;
+    this.mask = 1 << index;
   }
 
   public Context storeInContext(Context context, Span span) {
-    return context.with(key, span);
+    return store(context, mask, span);
   }
 
   @Nullable
   public Span fromContextOrNull(Context context) {
-    return context.get(key);
+    SpanKeyState state = context.get(KEY);
+    return state == null ? null : state.get(mask);
+  }
+
+  /** Stores {@code span} under all {@code spanKeys}, with a single context insertion. */
+  public static Context storeInContext(Context context, SpanKey[] spanKeys, Span span) {
+    return store(context, mask(spanKeys), span);
+  }
+
+  /** Returns whether spans are stored under all {@code spanKeys}, with a single context lookup. */
+  public static boolean allStoredInContext(Context context, SpanKey[] spanKeys) {
+    int mask = mask(spanKeys);
+    return (SpanKeyState.mask(context.get(KEY)) & mask) == mask;
+  }
+
+  private static Context store(Context context, int spanKeysMask, Span span) {
+    SpanKeyState parent = context.get(KEY);
+    return context.with(
+        KEY,
+        new SpanKeyState(SpanKeyState.mask(parent) | spanKeysMask, spanKeysMask, span, parent));
+  }
+
+  private static int mask(SpanKey[] spanKeys) {
+    int mask = 0;
+    for (SpanKey spanKey : spanKeys) {
+      mask |= spanKey.mask;
+    }
+    return mask;
   }
 
   @Override
   public String toString() {
-    return key.toString();
+    return name;
+  }
+
+  // immutable, a new state is put in the context every time a span is stored; it links to the state
+  // that was in the context before, so that storing a span does not copy the spans of other keys
+  private static final class SpanKeyState {
+    // bit i is set when a span was stored under the span key with index i, in this state or any of
+    // its parents
+    private final int mask;
+    // the span keys that span was stored under
+    private final int spanKeysMask;
+    private final Span span;
+    @Nullable private final SpanKeyState parent;
+
+    private SpanKeyState(int mask, int spanKeysMask, Span span, @Nullable SpanKeyState parent) {
+      this.mask = mask;
+      this.spanKeysMask = spanKeysMask;
+      this.span = span;
+      this.parent = parent;
+    }
+
+    @Nullable
+    private Span get(int spanKeyMask) {
+      if ((mask & spanKeyMask) == 0) {
+        return null;
+      }
+      for (SpanKeyState state = this; state != null; state = state.parent) {
+        if ((state.spanKeysMask & spanKeyMask) != 0) {
+          return state.span;
+        }
+      }
+      return null;
+    }
+
+    private static int mask(@Nullable SpanKeyState state) {
+      return state == null ? 0 : state.mask;
+    }
   }
 }
@@ -5,11 +5,12 @@
 
 package io.opentelemetry.instrumentation.api.semconv.http;
 
+import static io.opentelemetry.instrumentation.api.semconv.http.HeaderParsingHelper.findElementEnd;
+import static io.opentelemetry.instrumentation.api.semconv.http.HeaderParsingHelper.findForwardedParameterValue;
 import static io.opentelemetry.instrumentation.api.semconv.http.HeaderParsingHelper.notFound;
 import static io.opentelemetry.instrumentation.api.semconv.http.HeaderParsingHelper.setPort;
 
 import io.opentelemetry.instrumentation.api.semconv.network.internal.AddressAndPortExtractor;
-import java.util.Locale;
 
 final class ForwardedHostAddressAndPortExtractor<REQUEST>
     implements AddressAndPortExtractor<REQUEST> {
@@ -31,44 +32,46 @@ final class ForwardedHostAddressAndPortExtractor<REQUEST>
 
     // try X-Forwarded-Host
     for (String forwardedHost : getter.getHttpRequestHeader(request, "x-forwarded-host")) {
-      if (extractHost(sink, forwardedHost, 0, forwardedHost.length())) {
+      if (extractHost(sink, forwardedHost)) {
         return;
       }
     }
 
     // try :authority (HTTP 2.0 pseudo-header)
     for (String host : getter.getHttpRequestHeader(request, ":authority")) {
-      if (extractHost(sink, host, 0, host.length())) {
+      if (extractHost(sink, host)) {
         return;
       }
     }
 
     // try Host
     for (String host : getter.getHttpRequestHeader(request, "host")) {
-      if (extractHost(sink, host, 0, host.length())) {
+      if (extractHost(sink, host)) {
         return;
       }
     }
   }
 
   private static boolean extractFromForwardedHeader(AddressPortSink sink, String forwarded) {
-    int start = forwarded.toLowerCase(Locale.ROOT).indexOf("host=");
+    int start = findForwardedParameterValue(forwarded, "host");
     if (start < 0) {
       return false;
     }
-    start += "host=".length(); // start is now the index after host=
-    if (start >= forwarded.length() - 1) { // the value after host= must not be empty
-      return false;
-    }
     // find the end of the `host=<address>` section
-    int end = forwarded.indexOf(';', start);
-    if (end < 0) {
-      end = forwarded.length();
-    }
+    int end = findElementEnd(forwarded, start, true);
     return extractHost(sink, forwarded, start, end);
   }
 
+  // uses the first hop when the header contains a proxy chain
+  private static boolean extractHost(AddressPortSink sink, String host) {
+    return extractHost(sink, host, 0, findElementEnd(host, 0, false));
+  }
+
   private static boolean extractHost(AddressPortSink sink, String host, int start, int end) {
+    // ignore whitespace before the next element, e.g. in "example.com , proxy.example.com"
+    while (end > start && host.charAt(end - 1) == ' ') {
+      end--;
+    }
     if (start >= end) {
       return false;
     }
@@ -5,7 +5,8 @@
 
 package io.opentelemetry.instrumentation.api.semconv.http;
 
-import java.util.Locale;
+import static io.opentelemetry.instrumentation.api.semconv.http.HeaderParsingHelper.findForwardedParameterValue;
+
 import java.util.function.Function;
 import javax.annotation.Nullable;
 
@@ -41,14 +42,10 @@ final class ForwardedUrlSchemeProvider<REQUEST> implements Function<REQUEST, Str
   /** Extract proto (aka scheme) from "Forwarded" http header. */
   @Nullable
   private static String extractProtoFromForwardedHeader(String forwarded) {
-    int start = forwarded.toLowerCase(Locale.ROOT).indexOf("proto=");
+    int start = findForwardedParameterValue(forwarded, "proto");
     if (start < 0) {
       return null;
     }
-    start += 6; // start is now the index after proto=
-    if (start >= forwarded.length() - 1) { // the value after for= must not be empty
-      return null;
-    }
     return extractProto(forwarded, start);
   }
 
@@ -72,9 +69,21 @@ final class ForwardedUrlSchemeProvider<REQUEST> implements Function<REQUEST, Str
         if (i == start) { // empty string
           return null;
         }
-        return forwarded.substring(start, i);
+        return toScheme(forwarded, start, i);
       }
     }
-    return forwarded.substring(start);
+    return toScheme(forwarded, start, forwarded.length());
+  }
+
+  // avoids allocating a new string for the common schemes
+  private static String toScheme(String forwarded, int start, int end) {
+    int length = end - start;
+    if (length == 5 && forwarded.startsWith("https", start)) {
+      return "https";
+    }
+    if (length == 4 && forwarded.startsWith("http", start)) {
+      return "http";
+    }
+    return forwarded.substring(start, end);
   }
 }
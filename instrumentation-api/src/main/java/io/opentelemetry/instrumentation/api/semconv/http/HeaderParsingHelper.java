@@ -7,21 +7,78 @@ package io.opentelemetry.instrumentation.api.semconv.http;
 
 import io.opentelemetry.instrumentation.api.semconv.network.internal.AddressAndPortExtractor.AddressPortSink;
 
+// all methods work on index ranges of the header value, so that only the final attribute values are
+// allocated
 final class HeaderParsingHelper {
 
+  private static final int MAX_PORT = 65535;
+
   static boolean notFound(int pos, int end) {
     return pos < 0 || pos >= end;
   }
 
+  /**
+   * Returns the index of the value of the {@code name} parameter (e.g. {@code for}) of a {@code
+   * Forwarded} header, i.e. the index right after {@code name=}; or -1 if the header doesn't
+   * contain the parameter or its value is empty. The parameter name is matched case-insensitively.
+   */
+  static int findForwardedParameterValue(String forwarded, String name) {
+    int nameLength = name.length();
+    // the value must not be empty, so the last possible parameter start leaves room for one char
+    int lastStart = forwarded.length() - nameLength - 2;
+    for (int i = 0; i <= lastStart; i++) {
+      if (forwarded.charAt(i + nameLength) == '='
+          && (i == 0 || isParameterSeparator(forwarded.charAt(i - 1)))
+          && forwarded.regionMatches(true, i, name, 0, nameLength)) {
+        return i + nameLength + 1;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean isParameterSeparator(char c) {
+    return c == ';' || c == ',' || c == ' ' || c == '\t';
+  }
+
+  /**
+   * Returns the end of the first element starting at {@code start}: elements (i.e. hops in a proxy
+   * chain) are separated by commas, and in {@code Forwarded} headers the parameters of an element
+   * are separated by semicolons.
+   */
+  static int findElementEnd(String header, int start, boolean stopAtSemicolon) {
+    for (int i = start; i < header.length(); i++) {
+      char c = header.charAt(i);
+      if (c == ',' || (stopAtSemicolon && c == ';')) {
+        return i;
+      }
+    }
+    return header.length();
+  }
+
   static void setPort(AddressPortSink sink, String header, int start, int end) {
-    if (start == end) {
-      return;
+    int port = parsePort(header, start, end);
+    if (port >= 0) {
+      sink.setPort(port);
+    }
+  }
+
+  // returns -1 for empty or malformed ports, without going through a substring and
+  // Integer.parseInt()
+  private static int parsePort(String header, int start, int end) {
+    // ports have at most 5 digits
+    if (start >= end || end - start > 5) {
+      return -1;
     }
-    try {
-      sink.setPort(Integer.parseInt(header.substring(start, end)));
-    } catch (NumberFormatException ignored) {
-      // malformed port, ignoring
+    int port = 0;
+    for (int i = start; i < end; i++) {
+      char c = header.charAt(i);
+      if (c < '0' || c > '9') {
+        // malformed port, ignoring
+        return -1;
+      }
+      port = port * 10 + (c - '0');
     }
+    return port <= MAX_PORT ? port : -1;
   }
 
   private HeaderParsingHelper() {}
@@ -5,10 +5,10 @@
 
 package io.opentelemetry.instrumentation.api.semconv.http;
 
+import static io.opentelemetry.instrumentation.api.semconv.http.HeaderParsingHelper.findForwardedParameterValue;
 import static io.opentelemetry.instrumentation.api.semconv.http.HeaderParsingHelper.notFound;
 
 import io.opentelemetry.instrumentation.api.semconv.network.internal.AddressAndPortExtractor;
-import java.util.Locale;
 
 final class HttpServerAddressAndPortExtractor<REQUEST> implements AddressAndPortExtractor<REQUEST> {
 
@@ -43,14 +43,10 @@ final class HttpServerAddressAndPortExtractor<REQUEST> implements AddressAndPort
   }
 
   private static boolean extractFromForwardedHeader(AddressPortSink sink, String forwarded) {
-    int start = forwarded.toLowerCase(Locale.ROOT).indexOf("for=");
+    int start = findForwardedParameterValue(forwarded, "for");
     if (start < 0) {
       return false;
     }
-    start += "for=".length(); // start is now the index after for=
-    if (start >= forwarded.length() - 1) { // the value after for= must not be empty
-      return false;
-    }
     // find the end of the `for=<address>` section
     int end = forwarded.indexOf(';', start);
     if (end < 0) {
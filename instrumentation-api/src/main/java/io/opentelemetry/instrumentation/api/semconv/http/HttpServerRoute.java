@@ -135,6 +135,10 @@ public final class HttpServerRoute {
   }
 
   private static void updateSpanName(Span serverSpan, HttpRouteState httpRouteState, String route) {
+    if (!serverSpan.isRecording()) {
+      // the name of a span that is not recorded is never seen, skip building it
+      return;
+    }
     String method = httpRouteState.getMethod();
     // method should never really be null
     serverSpan.updateName(method + " " + route);
@@ -0,0 +1,153 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.http;
+
+import io.opentelemetry.instrumentation.api.internal.ConfigPropertiesUtil;
+import io.opentelemetry.instrumentation.api.internal.ReusableStringBuilder;
+import javax.annotation.Nullable;
+
+/**
+ * Redacts the user info from an url in a single pass. When enabled with {@code
+ * otel.instrumentation.http.client.experimental.redact-query-parameters}, the values of <a
+ * href="https://github.com/open-telemetry/semantic-conventions/blob/v1.29.0/docs/attributes-registry/url.md">sensitive
+ * query parameters</a> are redacted in the same pass.
+ *
+ * <p>The url is only copied when something needs to be redacted, in which case it is written into
+ * a per-thread {@link ReusableStringBuilder}. Each thread also remembers the last url it has seen,
+ * so that clients that repeatedly call the same endpoint don't scan the url again.
+ */
+final class UrlRedactor {
+
+  private static final String REDACTED = "REDACTED";
+  private static final String REDACTED_USER_INFO = "REDACTED:REDACTED";
+  private static final String[] SENSITIVE_QUERY_PARAMETERS = {
+    "AWSAccessKeyId", "Signature", "sig", "X-Goog-Signature"
+  };
+
+  private static final boolean redactQueryParameters =
+      ConfigPropertiesUtil.getBoolean(
+          "otel.instrumentation.http.client.experimental.redact-query-parameters", false);
+
+  private static final ThreadLocal<UrlRedactor> threadRedactor =
+      ThreadLocal.withInitial(() -> new UrlRedactor(redactQueryParameters));
+
+  private final boolean redactQuery;
+  private final ReusableStringBuilder builder = new ReusableStringBuilder(128);
+  @Nullable private StringBuilder redacted;
+  @Nullable private String lastUrl;
+  @Nullable private String lastRedactedUrl;
+  private int copied;
+
+  // visible for tests
+  UrlRedactor(boolean redactQuery) {
+    this.redactQuery = redactQuery;
+  }
+
+  @Nullable
+  static String redact(@Nullable String url) {
+    if (url == null || url.isEmpty()) {
+      return url;
+    }
+    return threadRedactor.get().redactUrl(url);
+  }
+
+  // visible for tests
+  String redactUrl(String url) {
+    if (url.equals(lastUrl)) {
+      return lastRedactedUrl;
+    }
+    String result = doRedact(url);
+    lastUrl = url;
+    lastRedactedUrl = result;
+    return result;
+  }
+
+  private String doRedact(String url) {
+    int schemeEndIndex = url.indexOf(':');
+    if (schemeEndIndex == -1) {
+      // not a valid url
+      return url;
+    }
+
+    redacted = null;
+    copied = 0;
+
+    int len = url.length();
+    int index = schemeEndIndex + 1;
+    if (len > schemeEndIndex + 2
+        && url.charAt(schemeEndIndex + 1) == '/'
+        && url.charAt(schemeEndIndex + 2) == '/') {
+      // look for the end of the authority component:
+      //   '/', '?', '#' ==> start of path
+      int atIndex = -1;
+      for (index = schemeEndIndex + 3; index < len; index++) {
+        char c = url.charAt(index);
+        if (c == '@') {
+          atIndex = index;
+        } else if (c == '/' || c == '?' || c == '#') {
+          break;
+        }
+      }
+      if (atIndex != -1 && atIndex != len - 1) {
+        replace(url, schemeEndIndex + 3, atIndex, REDACTED_USER_INFO);
+      }
+    }
+
+    if (redactQuery) {
+      int fragmentIndex = url.indexOf('#', index);
+      int queryEnd = fragmentIndex == -1 ? len : fragmentIndex;
+      int queryIndex = url.indexOf('?', index);
+      if (queryIndex != -1 && queryIndex < queryEnd) {
+        redactQueryParameters(url, queryIndex + 1, queryEnd);
+      }
+    }
+
+    if (redacted == null) {
+      return url;
+    }
+    redacted.append(url, copied, len);
+    redacted = null;
+    return builder.finish();
+  }
+
+  private void redactQueryParameters(String url, int start, int end) {
+    int paramStart = start;
+    while (paramStart < end) {
+      int paramEnd = url.indexOf('&', paramStart);
+      if (paramEnd == -1 || paramEnd > end) {
+        paramEnd = end;
+      }
+      int equalsIndex = url.indexOf('=', paramStart);
+      // only redact parameters that have a non-empty value
+      if (equalsIndex != -1
+          && equalsIndex + 1 < paramEnd
+          && isSensitiveQueryParameter(url, paramStart, equalsIndex)) {
+        replace(url, equalsIndex + 1, paramEnd, REDACTED);
+      }
+      paramStart = paramEnd + 1;
+    }
+  }
+
+  private static boolean isSensitiveQueryParameter(String url, int nameStart, int nameEnd) {
+    int nameLength = nameEnd - nameStart;
+    for (String parameter : SENSITIVE_QUERY_PARAMETERS) {
+      if (parameter.length() == nameLength
+          && url.regionMatches(nameStart, parameter, 0, nameLength)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // replaces url[start, end) with the replacement, copying the skipped part of the url first
+  private void replace(String url, int start, int end, String replacement) {
+    if (redacted == null) {
+      redacted = builder.start();
+    }
+    redacted.append(url, copied, start).append(replacement);
+    copied = end;
+  }
+}
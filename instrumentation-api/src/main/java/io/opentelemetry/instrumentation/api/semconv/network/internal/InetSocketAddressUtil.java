@@ -17,6 +17,12 @@ import javax.annotation.Nullable;
  */
 public final class InetSocketAddressUtil {
 
+  // direct-mapped cache of recently formatted addresses, keyed by identity: servers reuse the same
+  // InetAddress for all requests on a connection, and formatting (ipv6 in particular) allocates a
+  // new string every time
+  private static final int CACHE_SIZE = 256;
+  private static final FormattedAddress[] formattedAddresses = new FormattedAddress[CACHE_SIZE];
+
   @Nullable
   public static String getNetworkType(
       @Nullable InetSocketAddress address, @Nullable InetSocketAddress otherAddress) {
@@ -44,7 +50,21 @@ public final class InetSocketAddressUtil {
     if (remoteAddress == null) {
       return null;
     }
-    return remoteAddress.getHostAddress();
+    return getHostAddress(remoteAddress);
+  }
+
+  private static String getHostAddress(InetAddress address) {
+    int index = System.identityHashCode(address) & (CACHE_SIZE - 1);
+    // entries are immutable, so racing threads can at worst overwrite each other's entries
+    FormattedAddress cached = formattedAddresses[index];
+    if (cached != null && cached.address == address) {
+      return cached.hostAddress;
+    }
+    // unlike getHostName() and toString(), getHostAddress() never does a (reverse) name lookup,
+    // it only formats the literal address
+    String hostAddress = address.getHostAddress();
+    formattedAddresses[index] = new FormattedAddress(address, hostAddress);
+    return hostAddress;
   }
 
   @Nullable
@@ -55,5 +75,15 @@ public final class InetSocketAddressUtil {
     return address.getPort();
   }
 
+  private static final class FormattedAddress {
+    private final InetAddress address;
+    private final String hostAddress;
+
+    private FormattedAddress(InetAddress address, String hostAddress) {
+      this.address = address;
+      this.hostAddress = hostAddress;
+    }
+  }
+
   private InetSocketAddressUtil() {}
 }
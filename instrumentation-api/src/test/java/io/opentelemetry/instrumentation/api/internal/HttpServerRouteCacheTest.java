@@ -0,0 +1,97 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class HttpServerRouteCacheTest {
+
+  @Test
+  void shouldCacheRoutePerHandlerAndQualifier() {
+    AtomicInteger calls = new AtomicInteger();
+    HttpServerRouteCache<Handler, String> cache =
+        HttpServerRouteCache.create(
+            (handler, prefix) -> {
+              calls.incrementAndGet();
+              return prefix == null ? handler.path : prefix + handler.path;
+            });
+    Handler handler = new Handler("/users");
+
+    String route = cache.get(handler, null);
+    assertThat(route).isEqualTo("/users");
+    assertThat(cache.get(handler, null)).isSameAs(route);
+    assertThat(cache.get(handler, "/api")).isEqualTo("/api/users");
+    assertThat(cache.get(handler, "/api")).isEqualTo("/api/users");
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void shouldCompareHandlersByIdentity() {
+    AtomicInteger calls = new AtomicInteger();
+    HttpServerRouteCache<Handler, String> cache =
+        HttpServerRouteCache.create(
+            (handler, prefix) -> {
+              calls.incrementAndGet();
+              return handler.path;
+            });
+
+    assertThat(cache.get(new Handler("/a"), null)).isEqualTo("/a");
+    assertThat(cache.get(new Handler("/a"), null)).isEqualTo("/a");
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void shouldNotCacheNullRoute() {
+    AtomicInteger calls = new AtomicInteger();
+    HttpServerRouteCache<Handler, String> cache =
+        HttpServerRouteCache.create(
+            (handler, prefix) -> {
+              calls.incrementAndGet();
+              return null;
+            });
+    Handler handler = new Handler("/a");
+
+    assertThat(cache.get(handler, null)).isNull();
+    assertThat(cache.get(handler, null)).isNull();
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void shouldLimitRoutesPerHandler() {
+    AtomicInteger calls = new AtomicInteger();
+    HttpServerRouteCache<Handler, String> cache =
+        HttpServerRouteCache.create(
+            (handler, prefix) -> {
+              calls.incrementAndGet();
+              return prefix + handler.path;
+            });
+    Handler handler = new Handler("/a");
+
+    for (int i = 0; i < HttpServerRouteCache.MAX_ROUTES_PER_HANDLER; i++) {
+      cache.get(handler, "/" + i);
+    }
+    assertThat(calls).hasValue(HttpServerRouteCache.MAX_ROUTES_PER_HANDLER);
+
+    assertThat(cache.get(handler, "/overflow")).isEqualTo("/overflow/a");
+    assertThat(cache.get(handler, "/overflow")).isEqualTo("/overflow/a");
+    assertThat(calls).hasValue(HttpServerRouteCache.MAX_ROUTES_PER_HANDLER + 2);
+
+    // already cached routes are still served from the cache
+    assertThat(cache.get(handler, "/0")).isEqualTo("/0/a");
+    assertThat(calls).hasValue(HttpServerRouteCache.MAX_ROUTES_PER_HANDLER + 2);
+  }
+
+  private static class Handler {
+    final String path;
+
+    Handler(String path) {
+      this.path = path;
+    }
+  }
+}
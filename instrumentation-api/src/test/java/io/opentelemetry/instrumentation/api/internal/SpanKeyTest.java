@@ -0,0 +1,88 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import org.junit.jupiter.api.Test;
+
+class SpanKeyTest {
+
+  private static final Span SPAN = span("0000000000000001");
+  private static final Span OTHER_SPAN = span("0000000000000002");
+
+  @Test
+  void storeSingleKey() {
+    Context context = SpanKey.HTTP_CLIENT.storeInContext(Context.root(), SPAN);
+
+    assertThat(SpanKey.HTTP_CLIENT.fromContextOrNull(context)).isSameAs(SPAN);
+    assertThat(SpanKey.KIND_CLIENT.fromContextOrNull(context)).isNull();
+    assertThat(SpanKey.HTTP_CLIENT.fromContextOrNull(Context.root())).isNull();
+  }
+
+  @Test
+  void storeMultipleKeys() {
+    SpanKey[] spanKeys = {SpanKey.RPC_CLIENT, SpanKey.HTTP_CLIENT};
+    Context context = SpanKey.storeInContext(Context.root(), spanKeys, SPAN);
+
+    assertThat(SpanKey.RPC_CLIENT.fromContextOrNull(context)).isSameAs(SPAN);
+    assertThat(SpanKey.HTTP_CLIENT.fromContextOrNull(context)).isSameAs(SPAN);
+    assertThat(SpanKey.DB_CLIENT.fromContextOrNull(context)).isNull();
+    assertThat(SpanKey.allStoredInContext(context, spanKeys)).isTrue();
+    assertThat(SpanKey.allStoredInContext(Context.root(), spanKeys)).isFalse();
+  }
+
+  @Test
+  void partiallyStored() {
+    Context context = SpanKey.DB_CLIENT.storeInContext(Context.root(), SPAN);
+
+    SpanKey[] spanKeys = {SpanKey.DB_CLIENT, SpanKey.RPC_CLIENT};
+
+    assertThat(SpanKey.allStoredInContext(context, spanKeys)).isFalse();
+    assertThat(SpanKey.allStoredInContext(context, new SpanKey[] {SpanKey.DB_CLIENT})).isTrue();
+  }
+
+  @Test
+  void nestedContextsKeepParentSpans() {
+    Context parent = SpanKey.KIND_SERVER.storeInContext(Context.root(), SPAN);
+    Context child = SpanKey.KIND_CLIENT.storeInContext(parent, OTHER_SPAN);
+
+    assertThat(SpanKey.KIND_SERVER.fromContextOrNull(child)).isSameAs(SPAN);
+    assertThat(SpanKey.KIND_CLIENT.fromContextOrNull(child)).isSameAs(OTHER_SPAN);
+    // the parent context is not modified
+    assertThat(SpanKey.KIND_CLIENT.fromContextOrNull(parent)).isNull();
+
+    Context overwritten = SpanKey.KIND_SERVER.storeInContext(child, OTHER_SPAN);
+    assertThat(SpanKey.KIND_SERVER.fromContextOrNull(overwritten)).isSameAs(OTHER_SPAN);
+    assertThat(SpanKey.KIND_SERVER.fromContextOrNull(child)).isSameAs(SPAN);
+  }
+
+  @Test
+  void overwriteSomeOfMultipleKeys() {
+    SpanKey[] spanKeys = {SpanKey.KIND_CLIENT, SpanKey.HTTP_CLIENT};
+    Context parent = SpanKey.storeInContext(Context.root(), spanKeys, SPAN);
+    Context child = SpanKey.HTTP_CLIENT.storeInContext(parent, OTHER_SPAN);
+
+    assertThat(SpanKey.KIND_CLIENT.fromContextOrNull(child)).isSameAs(SPAN);
+    assertThat(SpanKey.HTTP_CLIENT.fromContextOrNull(child)).isSameAs(OTHER_SPAN);
+    assertThat(SpanKey.allStoredInContext(child, spanKeys)).isTrue();
+    assertThat(SpanKey.HTTP_CLIENT.fromContextOrNull(parent)).isSameAs(SPAN);
+  }
+
+  private static Span span(String spanId) {
+    return Span.wrap(
+        SpanContext.create(
+            "00000000000000000000000000000001",
+            spanId,
+            TraceFlags.getSampled(),
+            TraceState.getDefault()));
+  }
+}
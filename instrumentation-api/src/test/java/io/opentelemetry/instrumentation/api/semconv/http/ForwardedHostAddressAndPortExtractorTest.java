@@ -72,6 +72,16 @@ class ForwardedHostAddressAndPortExtractorTest {
           arguments(singletonList("host=\"example.com:42\""), "example.com", 42),
           arguments(singletonList("host=example.com:42; test=abc:1234"), "example.com", 42),
           arguments(singletonList("host=\"example.com:42\"; test=abc:1234"), "example.com", 42),
+          arguments(singletonList("Host=example.com"), "example.com", null),
+          arguments(singletonList("xhost=example.com"), null, null),
+          arguments(singletonList("host=example.com:70000"), "example.com", null),
+
+          // proxy chain
+          arguments(
+              singletonList(
+                  "for=1.2.3.4;host=example.com:42, for=10.0.0.1;host=proxy.example.com"),
+              "example.com",
+              42),
 
           // multiple headers
           arguments(
@@ -144,6 +154,12 @@ class ForwardedHostAddressAndPortExtractorTest {
           arguments(singletonList("\"example.com\""), "example.com", null),
           arguments(singletonList("\"example.com:port\""), "example.com", null),
           arguments(singletonList("\"example.com:42\""), "example.com", 42),
+          arguments(singletonList("example.com:70000"), "example.com", null),
+          arguments(singletonList("example.com:-1"), "example.com", null),
+
+          // proxy chain
+          arguments(singletonList("example.com:42, proxy.example.com"), "example.com", 42),
+          arguments(singletonList("example.com , proxy.example.com"), "example.com", null),
 
           // multiple headers
           arguments(asList("example.com", "github.com:1234"), "example.com", null));
@@ -68,6 +68,9 @@ class ForwardedUrlSchemeProviderTest {
           arguments(singletonList("for=1.1.1.1;proto=\"\""), null),
           arguments(singletonList("for=1.1.1.1;proto=\"\";"), null),
           arguments(singletonList("for=1.1.1.1;proto=\"\","), null),
+          arguments(singletonList("for=1.1.1.1;Proto=https"), "https"),
+          arguments(singletonList("for=1.1.1.1;xproto=https"), null),
+          arguments(singletonList("for=1.1.1.1;proto=https, for=10.0.0.1;proto=http"), "https"),
           arguments(asList("for=1.1.1.1", "proto=xyz", "proto=abc"), "xyz"));
     }
   }
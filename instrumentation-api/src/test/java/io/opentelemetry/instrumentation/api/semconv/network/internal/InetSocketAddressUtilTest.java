@@ -0,0 +1,79 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.network.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import org.junit.jupiter.api.Test;
+
+class InetSocketAddressUtilTest {
+
+  @Test
+  void ipv4() throws UnknownHostException {
+    InetSocketAddress address =
+        new InetSocketAddress(InetAddress.getByAddress(new byte[] {10, 1, 2, 3}), 8080);
+
+    assertThat(InetSocketAddressUtil.getNetworkType(address, null)).isEqualTo("ipv4");
+    assertThat(InetSocketAddressUtil.getIpAddress(address)).isEqualTo("10.1.2.3");
+    assertThat(InetSocketAddressUtil.getPort(address)).isEqualTo(8080);
+  }
+
+  @Test
+  void ipv6() throws UnknownHostException {
+    byte[] bytes = new byte[16];
+    bytes[0] = 0x20;
+    bytes[1] = 0x01;
+    bytes[2] = 0x0d;
+    bytes[3] = (byte) 0xb8;
+    bytes[15] = 0x01;
+    InetSocketAddress address = new InetSocketAddress(InetAddress.getByAddress(bytes), 443);
+
+    assertThat(InetSocketAddressUtil.getNetworkType(address, null)).isEqualTo("ipv6");
+    assertThat(InetSocketAddressUtil.getIpAddress(address)).isEqualTo("2001:db8:0:0:0:0:0:1");
+  }
+
+  @Test
+  void doesNotUseHostName() throws UnknownHostException {
+    InetAddress inetAddress = InetAddress.getByAddress("example.com", new byte[] {10, 1, 2, 3});
+
+    assertThat(InetSocketAddressUtil.getIpAddress(new InetSocketAddress(inetAddress, 8080)))
+        .isEqualTo("10.1.2.3");
+  }
+
+  @Test
+  void unresolved() {
+    InetSocketAddress address = InetSocketAddress.createUnresolved("example.com", 8080);
+
+    assertThat(InetSocketAddressUtil.getIpAddress(address)).isNull();
+    assertThat(InetSocketAddressUtil.getPort(address)).isEqualTo(8080);
+  }
+
+  @Test
+  void reusesFormattedAddress() throws UnknownHostException {
+    InetAddress inetAddress = InetAddress.getByAddress(new byte[] {10, 1, 2, 4});
+    InetSocketAddress address = new InetSocketAddress(inetAddress, 8080);
+
+    String first = InetSocketAddressUtil.getIpAddress(address);
+    assertThat(InetSocketAddressUtil.getIpAddress(address)).isSameAs(first);
+    // the same instance is used by other socket addresses, e.g. the local address of a server
+    assertThat(InetSocketAddressUtil.getIpAddress(new InetSocketAddress(inetAddress, 9090)))
+        .isSameAs(first);
+  }
+
+  @Test
+  void manyAddresses() throws UnknownHostException {
+    // many more addresses than cache entries, each must still get its own string
+    for (int i = 0; i < 1024; i++) {
+      InetAddress inetAddress =
+          InetAddress.getByAddress(new byte[] {10, 2, (byte) (i >> 8), (byte) i});
+      assertThat(InetSocketAddressUtil.getIpAddress(new InetSocketAddress(inetAddress, 8080)))
+          .isEqualTo("10.2." + (i >> 8) + "." + (i & 0xFF));
+    }
+  }
+}
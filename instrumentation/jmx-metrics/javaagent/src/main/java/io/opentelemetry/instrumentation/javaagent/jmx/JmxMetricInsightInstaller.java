@@ -33,7 +33,9 @@ public class JmxMetricInsightInstaller implements AgentListener {
     if (config.getBoolean("otel.jmx.enabled", true)) {
       JmxMetricInsight service =
           JmxMetricInsight.createService(
-              GlobalOpenTelemetry.get(), beanDiscoveryDelay(config).toMillis());
+              GlobalOpenTelemetry.get(),
+              beanDiscoveryDelay(config).toMillis(),
+              config.getBoolean("otel.jmx.discovery.incremental", false));
       MetricConfiguration conf = buildMetricConfiguration(config);
       service.startLocal(conf);
     }
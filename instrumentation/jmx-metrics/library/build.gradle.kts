@@ -1,9 +1,19 @@
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 dependencies {
   implementation("org.snakeyaml:snakeyaml-engine")
 
   testImplementation(project(":testing-common"))
+
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk-testing")
+}
+
+sourceSets {
+  named("jmh") {
+    // for benchmarking with the rules bundled with the javaagent
+    resources.srcDir("../javaagent/src/main/resources")
+  }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jmx.engine;
+
+import io.opentelemetry.instrumentation.jmx.yaml.RuleParser;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures matching 10k MBean names, of which a few hundred match, against the rules bundled with
+ * the javaagent, loaded {@code ruleCopies} times to stand in for larger sets of custom rules. The
+ * {@code linear} benchmark applies the pattern of every rule to every name, like querying the MBean
+ * server once per pattern does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class BeanMatcherBenchmark {
+
+  private static final String[] RULE_FILES = {
+    "activemq", "camel", "hadoop", "jetty", "kafka-broker", "tomcat", "wildfly"
+  };
+  private static final int INSTANCES_PER_PATTERN = 5;
+  private static final int OTHER_BEAN_COUNT = 10_000;
+
+  @Param({"1", "10"})
+  public int ruleCopies;
+
+  private final List<MetricDef> metricDefs = new ArrayList<>();
+  private final List<ObjectName> objectNames = new ArrayList<>();
+  private BeanMatcher matcher;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException, JMException {
+    MetricConfiguration conf = new MetricConfiguration();
+    for (int i = 0; i < ruleCopies; i++) {
+      for (String ruleFile : RULE_FILES) {
+        try (InputStream inputStream =
+            BeanMatcherBenchmark.class.getResourceAsStream("/jmx/rules/" + ruleFile + ".yaml")) {
+          RuleParser.get().addMetricDefsTo(conf, inputStream, ruleFile);
+        }
+      }
+    }
+    metricDefs.addAll(conf.getMetricDefs());
+    matcher = new BeanMatcher(metricDefs);
+
+    // every rule is loaded ruleCopies times, the names are only needed once
+    for (MetricDef metricDef : metricDefs.subList(0, metricDefs.size() / ruleCopies)) {
+      for (ObjectName pattern : metricDef.getBeanGroup().getNamePatterns()) {
+        for (int j = 0; j < INSTANCES_PER_PATTERN; j++) {
+          objectNames.add(instanceOf(pattern, j));
+        }
+      }
+    }
+    for (int i = 0; i < OTHER_BEAN_COUNT; i++) {
+      objectNames.add(new ObjectName("com.example:type=Cache,name=cache-" + i));
+    }
+  }
+
+  @Benchmark
+  public int indexed() {
+    int count = 0;
+    for (ObjectName objectName : objectNames) {
+      count += matcher.getMatchingMetricDefs(objectName).size();
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int linear() {
+    int count = 0;
+    for (ObjectName objectName : objectNames) {
+      for (MetricDef metricDef : metricDefs) {
+        for (ObjectName pattern : metricDef.getBeanGroup().getNamePatterns()) {
+          if (pattern.apply(objectName)) {
+            count++;
+            break;
+          }
+        }
+      }
+    }
+    return count;
+  }
+
+  @SuppressWarnings("JdkObsolete") // required by ObjectName
+  private static ObjectName instanceOf(ObjectName pattern, int instance) throws JMException {
+    Hashtable<String, String> properties = new Hashtable<>();
+    for (Map.Entry<String, String> property : pattern.getKeyPropertyList().entrySet()) {
+      properties.put(
+          property.getKey(),
+          pattern.isPropertyValuePattern(property.getKey())
+              ? "instance-" + instance
+              : property.getValue());
+    }
+    return new ObjectName(pattern.getDomain(), properties);
+  }
+}
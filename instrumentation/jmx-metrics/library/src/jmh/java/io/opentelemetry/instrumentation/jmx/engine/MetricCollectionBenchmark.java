@@ -0,0 +1,162 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jmx.engine;
+
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import javax.management.AttributeList;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one metric collection of three metrics, with a metric attribute read from an MBean
+ * attribute each, from a synthetic MBean server with 10k connection pool MBeans. The {@code
+ * getAttribute} and {@code getAttributes} benchmarks show the cost of just reading the attribute
+ * values from the MBean server, with one call per attribute and metric and with one call per MBean.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class MetricCollectionBenchmark {
+
+  private static final int BEAN_COUNT = 10_000;
+  private static final String[] METRIC_ATTRIBUTES = {"Active", "Idle", "Max"};
+  private static final String[] ALL_ATTRIBUTES = {"Active", "Idle", "Max", "State"};
+
+  private MBeanServer server;
+  private final List<ObjectName> objectNames = new ArrayList<>();
+  private SdkMeterProvider meterProvider;
+  private InMemoryMetricReader metricReader;
+
+  @Setup(Level.Trial)
+  public void setUp() throws JMException {
+    server = MBeanServerFactory.newMBeanServer();
+    for (int i = 0; i < BEAN_COUNT; i++) {
+      ObjectName objectName = new ObjectName("bench:type=Pool,name=pool-" + i);
+      server.registerMBean(new Pool(i), objectName);
+      objectNames.add(objectName);
+    }
+
+    metricReader = InMemoryMetricReader.create();
+    meterProvider = SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+    MetricRegistrar registrar =
+        new MetricRegistrar(
+            OpenTelemetrySdk.builder().setMeterProvider(meterProvider).build(), "bench");
+    for (String attribute : METRIC_ATTRIBUTES) {
+      MetricExtractor extractor =
+          new MetricExtractor(
+              BeanAttributeExtractor.fromName(attribute),
+              new MetricInfo(
+                  "pool." + attribute.toLowerCase(Locale.ROOT), null, "1", MetricInfo.Type.GAUGE),
+              Arrays.asList(
+                  new MetricAttribute(
+                      "pool", MetricAttributeExtractor.fromObjectNameParameter("name")),
+                  new MetricAttribute(
+                      "state", MetricAttributeExtractor.fromBeanAttribute("State"))));
+      registrar.enrollExtractor(server, objectNames, extractor, new AttributeInfo(0, null));
+    }
+    // the first collection finds out which attributes are read
+    metricReader.collectAllMetrics();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    meterProvider.close();
+  }
+
+  @Benchmark
+  public Collection<MetricData> collect() {
+    return metricReader.collectAllMetrics();
+  }
+
+  @Benchmark
+  public int getAttribute() throws JMException {
+    int count = 0;
+    for (String attribute : METRIC_ATTRIBUTES) {
+      for (ObjectName objectName : objectNames) {
+        server.getAttribute(objectName, attribute);
+        server.getAttribute(objectName, "State");
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int getAttributes() throws JMException {
+    int count = 0;
+    for (ObjectName objectName : objectNames) {
+      AttributeList attributes = server.getAttributes(objectName, ALL_ATTRIBUTES);
+      count += attributes.size();
+    }
+    return count;
+  }
+
+  @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
+  public interface PoolMBean {
+
+    int getActive();
+
+    int getIdle();
+
+    int getMax();
+
+    String getState();
+  }
+
+  public static class Pool implements PoolMBean {
+    private final int id;
+
+    Pool(int id) {
+      this.id = id;
+    }
+
+    @Override
+    public int getActive() {
+      return id % 10;
+    }
+
+    @Override
+    public int getIdle() {
+      return 10 - id % 10;
+    }
+
+    @Override
+    public int getMax() {
+      return 10;
+    }
+
+    @Override
+    public String getState() {
+      return "RUNNING";
+    }
+  }
+}
@@ -5,20 +5,38 @@
 
 package io.opentelemetry.instrumentation.jmx.engine;
 
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.management.InstanceNotFoundException;
+import javax.management.ListenerNotFoundException;
+import javax.management.MBeanServer;
 import javax.management.MBeanServerConnection;
+import javax.management.MBeanServerDelegate;
+import javax.management.MBeanServerNotification;
+import javax.management.Notification;
+import javax.management.NotificationListener;
 import javax.management.ObjectName;
+import javax.management.relation.MBeanServerNotificationFilter;
 
 /**
  * A class responsible for finding MBeans that match metric definitions specified by a set of
@@ -30,6 +48,7 @@ class BeanFinder {
 
   private final MetricRegistrar registrar;
   private MetricConfiguration conf;
+  private BeanMatcher matcher;
   private final ScheduledExecutorService exec =
       Executors.newSingleThreadScheduledExecutor(
           runnable -> {
@@ -40,11 +59,17 @@ class BeanFinder {
   private final long discoveryDelay;
   private final long maxDelay;
   private long delay = 1000; // number of milliseconds until first attempt to discover MBeans
+  private final boolean incrementalDiscovery;
+  // only accessed from the bean finder thread
+  private final Map<MBeanServerConnection, RegistrationListener> registrationListeners =
+      new HashMap<>();
+  private volatile boolean closed;
 
-  BeanFinder(MetricRegistrar registrar, long discoveryDelay) {
+  BeanFinder(MetricRegistrar registrar, long discoveryDelay, boolean incrementalDiscovery) {
     this.registrar = registrar;
     this.discoveryDelay = Math.max(1000, discoveryDelay); // Enforce sanity
     this.maxDelay = Math.max(60000, discoveryDelay);
+    this.incrementalDiscovery = incrementalDiscovery;
   }
 
   /**
@@ -57,6 +82,7 @@ class BeanFinder {
   void discoverBeans(
       MetricConfiguration conf, Supplier<List<? extends MBeanServerConnection>> connections) {
     this.conf = conf;
+    this.matcher = new BeanMatcher(conf.getMetricDefs());
 
     exec.schedule(
         () -> {
@@ -75,6 +101,9 @@ class BeanFinder {
         new Runnable() {
           @Override
           public void run() {
+            if (closed) {
+              return;
+            }
             refreshState(connections);
             // Use discoveryDelay as the increment for the actual delay
             delay = Math.min(delay + discoveryDelay, maxDelay);
@@ -85,6 +114,26 @@ class BeanFinder {
         TimeUnit.MILLISECONDS);
   }
 
+  /**
+   * Stops looking for MBeans, and unsubscribes from the MBean registration notifications. The
+   * metrics of the MBeans found so far keep being collected.
+   */
+  void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    exec.execute(
+        () -> {
+          for (Map.Entry<MBeanServerConnection, RegistrationListener> entry :
+              registrationListeners.entrySet()) {
+            unsubscribe(entry.getKey(), entry.getValue());
+          }
+          registrationListeners.clear();
+        });
+    exec.shutdown();
+  }
+
   /**
    * Go over all configured metric definitions and try to find matching MBeans. Once a match is
    * found for a given metric definition, submit the definition to MetricRegistrar for further
@@ -96,42 +145,172 @@ class BeanFinder {
   private void refreshState(Supplier<List<? extends MBeanServerConnection>> connections) {
     List<? extends MBeanServerConnection> servers = connections.get();
 
-    for (MetricDef metricDef : conf.getMetricDefs()) {
-      resolveBeans(metricDef, servers);
+    if (incrementalDiscovery && subscribeToRegistrations(servers)) {
+      // New MBeans are discovered as they get registered, only the ones that did not provide
+      // usable attribute values yet need another look
+      for (RegistrationListener listener : registrationListeners.values()) {
+        listener.retryPendingBeans();
+      }
+      return;
+    }
+
+    resolveBeans(servers);
+  }
+
+  /**
+   * Subscribes to the MBean registration notifications of the servers that were not subscribed to
+   * yet.
+   *
+   * @return true if all servers were subscribed to before, false if all MBeans need to be resolved
+   *     because some were subscribed to just now, or because the subscription failed
+   */
+  private boolean subscribeToRegistrations(List<? extends MBeanServerConnection> servers) {
+    // e.g. remote connections that have been replaced
+    Iterator<Map.Entry<MBeanServerConnection, RegistrationListener>> iterator =
+        registrationListeners.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<MBeanServerConnection, RegistrationListener> entry = iterator.next();
+      if (!servers.contains(entry.getKey())) {
+        iterator.remove();
+        unsubscribe(entry.getKey(), entry.getValue());
+      }
+    }
+
+    boolean subscribedBefore = true;
+    for (MBeanServerConnection connection : servers) {
+      if (registrationListeners.containsKey(connection)) {
+        continue;
+      }
+      subscribedBefore = false;
+      RegistrationListener listener = new RegistrationListener(connection);
+      MBeanServerNotificationFilter filter = new MBeanServerNotificationFilter();
+      filter.enableAllObjectNames();
+      try {
+        // subscribing before resolving all MBeans, so that no registrations are missed
+        connection.addNotificationListener(
+            MBeanServerDelegate.DELEGATE_NAME, listener, filter, null);
+        registrationListeners.put(connection, listener);
+      } catch (InstanceNotFoundException | IOException e) {
+        logger.log(
+            Level.INFO,
+            "Unable to subscribe to MBean registrations, will keep looking for all MBeans",
+            e);
+      }
+    }
+    return subscribedBefore;
+  }
+
+  private static void unsubscribe(MBeanServerConnection connection, RegistrationListener listener) {
+    try {
+      connection.removeNotificationListener(MBeanServerDelegate.DELEGATE_NAME, listener);
+    } catch (InstanceNotFoundException | ListenerNotFoundException | IOException e) {
+      // the connection is no longer usable, or the server has already dropped the listener
+      logger.log(Level.FINE, "Unable to unsubscribe from MBean registrations", e);
     }
   }
 
   /**
-   * Go over the specified list of MBeanServers and try to find any MBeans matching the specified
-   * MetricDef. If found, verify that the MBeans support the specified attributes, and set up
+   * Go over the specified list of MBeanServers and try to find any MBeans matching the configured
+   * MetricDefs. If found, verify that the MBeans support the specified attributes, and set up
    * collection of corresponding metrics.
    *
-   * @param metricDef the MetricDef used to find matching MBeans
    * @param connections the list of {@link MBeanServerConnection} to query
    */
-  private void resolveBeans(
-      MetricDef metricDef, List<? extends MBeanServerConnection> connections) {
-    BeanGroup beans = metricDef.getBeanGroup();
+  private void resolveBeans(List<? extends MBeanServerConnection> connections) {
+    Set<MetricDef> resolvedMetricDefs = new HashSet<>();
 
     for (MBeanServerConnection connection : connections) {
-      // The set of all matching ObjectNames recognized by the server
-      Set<ObjectName> allObjectNames = new HashSet<>();
+      Map<MetricDef, Set<ObjectName>> matchingObjectNames = queryMatchingObjectNames(connection);
+      RegistrationListener listener = registrationListeners.get(connection);
+      for (MetricDef metricDef : conf.getMetricDefs()) {
+        Set<ObjectName> objectNames = matchingObjectNames.get(metricDef);
+        // Assuming that only one MBeanServer has the required MBeans
+        if (objectNames != null
+            && resolvedMetricDefs.add(metricDef)
+            && !resolveAttributes(objectNames, connection, metricDef)
+            && listener != null) {
+          // with incremental discovery, all MBeans are resolved only once, the ones that did not
+          // provide usable attribute values yet are retried like the ones registered later
+          listener.pendingBeans.addAll(objectNames);
+        }
+      }
+    }
+    registrar.registerPendingObservations();
+  }
+
+  /**
+   * Finds the MBeans of a server matching each of the MetricDefs.
+   *
+   * <p>The MBeans of a server in this JVM are listed once and matched against the patterns of all
+   * MetricDefs at once, which is much cheaper than one query per pattern with large sets of rules.
+   * Remote servers are still queried with the patterns, so that the names of MBeans that no rule
+   * needs are not transferred. MetricDefs with a query expression are always resolved with
+   * queries, so that the server evaluates the expression in a single call instead of one call per
+   * MBean.
+   *
+   * @return the matching MBeans by MetricDef, MetricDefs without matching MBeans are left out
+   */
+  private Map<MetricDef, Set<ObjectName>> queryMatchingObjectNames(
+      MBeanServerConnection connection) {
+    Map<MetricDef, Set<ObjectName>> result = new HashMap<>();
+    boolean local = connection instanceof MBeanServer;
+    if (local) {
+      for (ObjectName objectName : ((MBeanServer) connection).queryNames(null, null)) {
+        for (MetricDef metricDef : matcher.getMatchingMetricDefs(objectName)) {
+          if (metricDef.getBeanGroup().getQueryExp() == null) {
+            result.computeIfAbsent(metricDef, unused -> new LinkedHashSet<>()).add(objectName);
+          }
+        }
+      }
+    }
 
+    // the same patterns are often used by several MetricDefs
+    Map<ObjectName, Set<ObjectName>> queryResults = new HashMap<>();
+    for (MetricDef metricDef : conf.getMetricDefs()) {
+      BeanGroup beans = metricDef.getBeanGroup();
+      if (local && beans.getQueryExp() == null) {
+        continue;
+      }
+      Set<ObjectName> objectNames = new LinkedHashSet<>();
       for (ObjectName pattern : beans.getNamePatterns()) {
         try {
-          allObjectNames.addAll(connection.queryNames(pattern, beans.getQueryExp()));
+          if (beans.getQueryExp() != null) {
+            objectNames.addAll(connection.queryNames(pattern, beans.getQueryExp()));
+          } else {
+            Set<ObjectName> queryResult = queryResults.get(pattern);
+            if (queryResult == null) {
+              queryResult = connection.queryNames(pattern, null);
+              queryResults.put(pattern, queryResult);
+            }
+            objectNames.addAll(queryResult);
+          }
         } catch (IOException e) {
           logger.log(Level.WARNING, "IO error while resolving mbean", e);
         }
       }
+      if (!objectNames.isEmpty()) {
+        result.put(metricDef, objectNames);
+      }
+    }
+    return result;
+  }
 
-      if (!allObjectNames.isEmpty()) {
-        resolveAttributes(allObjectNames, connection, metricDef);
-
-        // Assuming that only one MBeanServer has the required MBeans
-        break;
+  /**
+   * Finds the MetricDefs matching each of the MBeans.
+   *
+   * @return the matching MBeans by MetricDef, MetricDefs without matching MBeans are left out
+   */
+  private Map<MetricDef, Set<ObjectName>> match(
+      Collection<ObjectName> objectNames, MBeanServerConnection connection) {
+    Map<MetricDef, Set<ObjectName>> result = new HashMap<>();
+    for (ObjectName objectName : objectNames) {
+      for (MetricDef metricDef : matcher.getMatchingMetricDefs(objectName)) {
+        if (matchesQuery(metricDef.getBeanGroup(), connection, objectName)) {
+          result.computeIfAbsent(metricDef, unused -> new LinkedHashSet<>()).add(objectName);
+        }
       }
     }
+    return result;
   }
 
   /**
@@ -142,9 +321,32 @@ class BeanFinder {
    * @param connection the {@link MBeanServerConnection} which recognized the collection of
    *     ObjectNames
    * @param metricDef the {@link MetricDef} describing the attributes to look for
+   * @return true if all MBeans provided all attributes
    */
-  private void resolveAttributes(
+  private boolean resolveAttributes(
       Set<ObjectName> objectNames, MBeanServerConnection connection, MetricDef metricDef) {
+    return resolveAttributes(objectNames, connection, metricDef, /* added= */ false);
+  }
+
+  /**
+   * Go over the collection of matching MBeans and try to find all matching attributes. For every
+   * successful match, activate metric value collection.
+   *
+   * @param objectNames the collection of {@link ObjectName}s identifying the MBeans
+   * @param connection the {@link MBeanServerConnection} which recognized the collection of
+   *     ObjectNames
+   * @param metricDef the {@link MetricDef} describing the attributes to look for
+   * @param added whether the MBeans are added to the ones already found for the metrics, or
+   *     replace them
+   * @return true if all MBeans provided all attributes
+   */
+  @CanIgnoreReturnValue
+  private boolean resolveAttributes(
+      Set<ObjectName> objectNames,
+      MBeanServerConnection connection,
+      MetricDef metricDef,
+      boolean added) {
+    boolean allResolved = true;
     for (MetricExtractor extractor : metricDef.getMetricExtractors()) {
       // For each MetricExtractor, find the subset of MBeans that have the required attribute
       List<ObjectName> validObjectNames = new ArrayList<>();
@@ -161,10 +363,114 @@ class BeanFinder {
           validObjectNames.add(objectName);
         }
       }
+      if (validObjectNames.size() < objectNames.size()) {
+        allResolved = false;
+      }
       if (!validObjectNames.isEmpty()) {
         // Ready to collect metric values
-        registrar.enrollExtractor(connection, validObjectNames, extractor, attributeInfo);
+        if (added) {
+          registrar.addObjectNames(connection, validObjectNames, extractor, attributeInfo);
+        } else {
+          registrar.enrollExtractor(connection, validObjectNames, extractor, attributeInfo);
+        }
+      }
+    }
+    return allResolved;
+  }
+
+  private static boolean matchesQuery(
+      BeanGroup beans, MBeanServerConnection connection, ObjectName objectName) {
+    if (beans.getQueryExp() == null) {
+      return true;
+    }
+    try {
+      return !connection.queryNames(objectName, beans.getQueryExp()).isEmpty();
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "IO error while resolving mbean", e);
+      return false;
+    }
+  }
+
+  /**
+   * Collects the MBean registrations and unregistrations of one MBean server, and applies them in
+   * batches on the bean finder thread. Registration notifications are sent on the thread that
+   * registers the MBean, which must not be slowed down with looking at its attributes.
+   */
+  private class RegistrationListener implements NotificationListener {
+    private final MBeanServerConnection connection;
+    private final Queue<MBeanServerNotification> notifications = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    // MBeans that match a metric definition but did not provide all of its attributes yet, e.g.
+    // because they are not fully initialized; only accessed from the bean finder thread
+    private final Set<ObjectName> pendingBeans = new HashSet<>();
+
+    RegistrationListener(MBeanServerConnection connection) {
+      this.connection = connection;
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+      if (closed || !(notification instanceof MBeanServerNotification)) {
+        return;
+      }
+      notifications.add((MBeanServerNotification) notification);
+      if (drainScheduled.compareAndSet(false, true)) {
+        try {
+          exec.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+          // closed concurrently
+        }
+      }
+    }
+
+    private void drain() {
+      drainScheduled.set(false);
+      Set<ObjectName> registered = new LinkedHashSet<>();
+      Set<ObjectName> unregistered = new HashSet<>();
+      MBeanServerNotification notification;
+      while ((notification = notifications.poll()) != null) {
+        ObjectName objectName = notification.getMBeanName();
+        if (MBeanServerNotification.REGISTRATION_NOTIFICATION.equals(notification.getType())) {
+          registered.add(objectName);
+          unregistered.remove(objectName);
+        } else if (MBeanServerNotification.UNREGISTRATION_NOTIFICATION.equals(
+            notification.getType())) {
+          registered.remove(objectName);
+          unregistered.add(objectName);
+        }
+      }
+
+      if (!unregistered.isEmpty()) {
+        pendingBeans.removeAll(unregistered);
+        for (MetricDef metricDef : conf.getMetricDefs()) {
+          for (MetricExtractor extractor : metricDef.getMetricExtractors()) {
+            registrar.removeObjectNames(unregistered, extractor);
+          }
+        }
+      }
+      if (!registered.isEmpty()) {
+        resolveRegisteredBeans(registered);
+      }
+    }
+
+    void retryPendingBeans() {
+      if (!pendingBeans.isEmpty()) {
+        Set<ObjectName> objectNames = new LinkedHashSet<>(pendingBeans);
+        pendingBeans.clear();
+        resolveRegisteredBeans(objectNames);
+      }
+    }
+
+    private void resolveRegisteredBeans(Set<ObjectName> objectNames) {
+      Map<MetricDef, Set<ObjectName>> matchingObjectNames = match(objectNames, connection);
+      for (MetricDef metricDef : conf.getMetricDefs()) {
+        Set<ObjectName> metricObjectNames = matchingObjectNames.get(metricDef);
+        if (metricObjectNames != null
+            && !resolveAttributes(metricObjectNames, connection, metricDef, /* added= */ true)) {
+          pendingBeans.addAll(metricObjectNames);
+        }
       }
+      registrar.registerPendingObservations();
     }
   }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jmx.engine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.annotation.Nullable;
+import javax.management.ObjectName;
+
+/**
+ * Finds the metric definitions with an MBean name pattern matching an {@link ObjectName}. The
+ * patterns of all metric definitions are indexed by their domain and by one of their key properties
+ * with a fixed value, so that only the few patterns which can possibly match are applied to an
+ * {@link ObjectName}, regardless of the number of rules.
+ *
+ * <p>The {@link javax.management.QueryExp} of the metric definitions is not evaluated, as this
+ * requires the MBean server.
+ */
+class BeanMatcher {
+
+  private final Map<String, DomainIndex> domains = new HashMap<>();
+  // patterns with wildcards in their domain, which are rare
+  private final DomainIndex domainPatterns = new DomainIndex();
+
+  BeanMatcher(Collection<MetricDef> metricDefs) {
+    for (MetricDef metricDef : metricDefs) {
+      for (ObjectName pattern : metricDef.getBeanGroup().getNamePatterns()) {
+        DomainIndex index =
+            pattern.isDomainPattern()
+                ? domainPatterns
+                : domains.computeIfAbsent(pattern.getDomain(), unused -> new DomainIndex());
+        index.add(pattern, metricDef);
+      }
+    }
+  }
+
+  /**
+   * Returns the metric definitions with a pattern that matches the {@link ObjectName}, in no
+   * particular order.
+   */
+  List<MetricDef> getMatchingMetricDefs(ObjectName objectName) {
+    List<MetricDef> result = new ArrayList<>(0);
+    DomainIndex index = domains.get(objectName.getDomain());
+    if (index != null) {
+      index.collectMatches(objectName, result);
+    }
+    domainPatterns.collectMatches(objectName, result);
+    return result;
+  }
+
+  /** Returns the first key property of the pattern with a fixed value, in canonical order. */
+  @Nullable
+  private static String fixedKeyProperty(ObjectName pattern) {
+    for (Map.Entry<String, String> property :
+        new TreeMap<>(pattern.getKeyPropertyList()).entrySet()) {
+      if (!pattern.isPropertyValuePattern(property.getKey())) {
+        return property.getKey() + '=' + property.getValue();
+      }
+    }
+    return null;
+  }
+
+  private static class DomainIndex {
+    // patterns by "key=value" of one of their key properties without wildcards
+    private final Map<String, List<Entry>> byKeyProperty = new HashMap<>();
+    // patterns without any key property with a fixed value
+    private final List<Entry> withoutKeyProperty = new ArrayList<>();
+
+    void add(ObjectName pattern, MetricDef metricDef) {
+      Entry entry = new Entry(pattern, metricDef);
+      String keyProperty = fixedKeyProperty(pattern);
+      if (keyProperty == null) {
+        withoutKeyProperty.add(entry);
+      } else {
+        byKeyProperty.computeIfAbsent(keyProperty, unused -> new ArrayList<>()).add(entry);
+      }
+    }
+
+    void collectMatches(ObjectName objectName, List<MetricDef> result) {
+      collectMatches(withoutKeyProperty, objectName, result);
+      if (byKeyProperty.isEmpty()) {
+        return;
+      }
+      for (Map.Entry<String, String> property : objectName.getKeyPropertyList().entrySet()) {
+        List<Entry> entries = byKeyProperty.get(property.getKey() + '=' + property.getValue());
+        if (entries != null) {
+          collectMatches(entries, objectName, result);
+        }
+      }
+    }
+
+    private static void collectMatches(
+        List<Entry> entries, ObjectName objectName, List<MetricDef> result) {
+      for (Entry entry : entries) {
+        if (entry.pattern.apply(objectName) && !result.contains(entry.metricDef)) {
+          result.add(entry.metricDef);
+        }
+      }
+    }
+  }
+
+  private static class Entry {
+    final ObjectName pattern;
+    final MetricDef metricDef;
+
+    Entry(ObjectName pattern, MetricDef metricDef) {
+      this.pattern = pattern;
+      this.metricDef = metricDef;
+    }
+  }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jmx.engine;
+
+import static java.util.Collections.synchronizedMap;
+import static java.util.Collections.synchronizedSet;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.IntrospectionException;
+import javax.management.InvalidAttributeValueException;
+import javax.management.ListenerNotFoundException;
+import javax.management.MBeanException;
+import javax.management.MBeanInfo;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServerConnection;
+import javax.management.NotCompliantMBeanException;
+import javax.management.NotificationFilter;
+import javax.management.NotificationListener;
+import javax.management.ObjectInstance;
+import javax.management.ObjectName;
+import javax.management.QueryExp;
+import javax.management.ReflectionException;
+
+/**
+ * A {@link MBeanServerConnection} used by the metric callbacks, which reads all the attributes of
+ * an MBean that are used by any metric with a single {@link #getAttributes(ObjectName, String[])}
+ * call per collection, instead of one {@link #getAttribute(ObjectName, String)} call per attribute
+ * and metric.
+ *
+ * <p>The attribute values are kept from the first read until {@link #startCollection()} is called
+ * for the next collection. The names of the attributes to read in bulk are learned from the {@link
+ * #getAttribute(ObjectName, String)} calls of the previous collection.
+ */
+class CachingMBeanServerConnection implements MBeanServerConnection {
+
+  private final MBeanServerConnection delegate;
+
+  private volatile Map<ObjectName, Map<String, Object>> attributeValues =
+      new ConcurrentHashMap<>();
+  private final Map<ObjectName, Set<String>> attributeNames = new ConcurrentHashMap<>();
+
+  CachingMBeanServerConnection(MBeanServerConnection delegate) {
+    this.delegate = delegate;
+  }
+
+  MBeanServerConnection getDelegate() {
+    return delegate;
+  }
+
+  /** Called before the metric callbacks of a collection read any attribute values. */
+  void startCollection() {
+    Map<ObjectName, Map<String, Object>> previousValues = attributeValues;
+    attributeValues = new ConcurrentHashMap<>();
+    // forget about the attributes of MBeans that were not read in the previous collection, e.g.
+    // because they have been unregistered
+    attributeNames.keySet().retainAll(previousValues.keySet());
+  }
+
+  @Override
+  @Nullable
+  public Object getAttribute(ObjectName name, String attribute)
+      throws MBeanException,
+          AttributeNotFoundException,
+          InstanceNotFoundException,
+          ReflectionException,
+          IOException {
+    Map<ObjectName, Map<String, Object>> currentValues = attributeValues;
+    Map<String, Object> values = currentValues.get(name);
+    if (values == null) {
+      // no lock is held while reading from the server, if the MBean is read concurrently the
+      // values read first are kept
+      values = readAttributes(name);
+      Map<String, Object> previous = currentValues.putIfAbsent(name, values);
+      if (previous != null) {
+        values = previous;
+      }
+    }
+    // values are only ever added, so a value that is present can't go away between these calls
+    if (values.containsKey(attribute)) {
+      return values.get(attribute);
+    }
+    // first use of the attribute, or getAttributes() could not read it, in which case this call
+    // throws the exception telling why
+    Object value = delegate.getAttribute(name, attribute);
+    attributeNames
+        .computeIfAbsent(name, unused -> synchronizedSet(new LinkedHashSet<>()))
+        .add(attribute);
+    values.put(attribute, value);
+    return value;
+  }
+
+  private Map<String, Object> readAttributes(ObjectName name)
+      throws InstanceNotFoundException, ReflectionException, IOException {
+    // attribute values may be null, which ConcurrentHashMap does not support
+    Map<String, Object> values = synchronizedMap(new HashMap<>());
+    Set<String> names = attributeNames.get(name);
+    if (names == null) {
+      return values;
+    }
+    AttributeList attributes = delegate.getAttributes(name, names.toArray(new String[0]));
+    for (Attribute attribute : attributes.asList()) {
+      values.put(attribute.getName(), attribute.getValue());
+    }
+    return values;
+  }
+
+  @Override
+  public ObjectInstance createMBean(String className, ObjectName name)
+      throws ReflectionException,
+          InstanceAlreadyExistsException,
+          MBeanRegistrationException,
+          MBeanException,
+          NotCompliantMBeanException,
+          IOException {
+    return delegate.createMBean(className, name);
+  }
+
+  @Override
+  public ObjectInstance createMBean(String className, ObjectName name, ObjectName loaderName)
+      throws ReflectionException,
+          InstanceAlreadyExistsException,
+          MBeanRegistrationException,
+          MBeanException,
+          NotCompliantMBeanException,
+          InstanceNotFoundException,
+          IOException {
+    return delegate.createMBean(className, name, loaderName);
+  }
+
+  @Override
+  public ObjectInstance createMBean(
+      String className, ObjectName name, Object[] params, String[] signature)
+      throws ReflectionException,
+          InstanceAlreadyExistsException,
+          MBeanRegistrationException,
+          MBeanException,
+          NotCompliantMBeanException,
+          IOException {
+    return delegate.createMBean(className, name, params, signature);
+  }
+
+  @Override
+  public ObjectInstance createMBean(
+      String className,
+      ObjectName name,
+      ObjectName loaderName,
+      Object[] params,
+      String[] signature)
+      throws ReflectionException,
+          InstanceAlreadyExistsException,
+          MBeanRegistrationException,
+          MBeanException,
+          NotCompliantMBeanException,
+          InstanceNotFoundException,
+          IOException {
+    return delegate.createMBean(className, name, loaderName, params, signature);
+  }
+
+  @Override
+  public void unregisterMBean(ObjectName name)
+      throws InstanceNotFoundException, MBeanRegistrationException, IOException {
+    delegate.unregisterMBean(name);
+  }
+
+  @Override
+  public ObjectInstance getObjectInstance(ObjectName name)
+      throws InstanceNotFoundException, IOException {
+    return delegate.getObjectInstance(name);
+  }
+
+  @Override
+  public Set<ObjectInstance> queryMBeans(ObjectName name, QueryExp query) throws IOException {
+    return delegate.queryMBeans(name, query);
+  }
+
+  @Override
+  public Set<ObjectName> queryNames(ObjectName name, QueryExp query) throws IOException {
+    return delegate.queryNames(name, query);
+  }
+
+  @Override
+  public boolean isRegistered(ObjectName name) throws IOException {
+    return delegate.isRegistered(name);
+  }
+
+  @Override
+  public Integer getMBeanCount() throws IOException {
+    return delegate.getMBeanCount();
+  }
+
+  @Override
+  public AttributeList getAttributes(ObjectName name, String[] attributes)
+      throws InstanceNotFoundException, ReflectionException, IOException {
+    return delegate.getAttributes(name, attributes);
+  }
+
+  @Override
+  public void setAttribute(ObjectName name, Attribute attribute)
+      throws InstanceNotFoundException,
+          AttributeNotFoundException,
+          InvalidAttributeValueException,
+          MBeanException,
+          ReflectionException,
+          IOException {
+    delegate.setAttribute(name, attribute);
+  }
+
+  @Override
+  public AttributeList setAttributes(ObjectName name, AttributeList attributes)
+      throws InstanceNotFoundException, ReflectionException, IOException {
+    return delegate.setAttributes(name, attributes);
+  }
+
+  @Override
+  public Object invoke(ObjectName name, String operationName, Object[] params, String[] signature)
+      throws InstanceNotFoundException, MBeanException, ReflectionException, IOException {
+    return delegate.invoke(name, operationName, params, signature);
+  }
+
+  @Override
+  public String getDefaultDomain() throws IOException {
+    return delegate.getDefaultDomain();
+  }
+
+  @Override
+  public String[] getDomains() throws IOException {
+    return delegate.getDomains();
+  }
+
+  @Override
+  public void addNotificationListener(
+      ObjectName name,
+      NotificationListener listener,
+      NotificationFilter filter,
+      Object handback)
+      throws InstanceNotFoundException, IOException {
+    delegate.addNotificationListener(name, listener, filter, handback);
+  }
+
+  @Override
+  public void addNotificationListener(
+      ObjectName name, ObjectName listener, NotificationFilter filter, Object handback)
+      throws InstanceNotFoundException, IOException {
+    delegate.addNotificationListener(name, listener, filter, handback);
+  }
+
+  @Override
+  public void removeNotificationListener(ObjectName name, ObjectName listener)
+      throws InstanceNotFoundException, ListenerNotFoundException, IOException {
+    delegate.removeNotificationListener(name, listener);
+  }
+
+  @Override
+  public void removeNotificationListener(
+      ObjectName name, ObjectName listener, NotificationFilter filter, Object handback)
+      throws InstanceNotFoundException, ListenerNotFoundException, IOException {
+    delegate.removeNotificationListener(name, listener, filter, handback);
+  }
+
+  @Override
+  public void removeNotificationListener(ObjectName name, NotificationListener listener)
+      throws InstanceNotFoundException, ListenerNotFoundException, IOException {
+    delegate.removeNotificationListener(name, listener);
+  }
+
+  @Override
+  public void removeNotificationListener(
+      ObjectName name,
+      NotificationListener listener,
+      NotificationFilter filter,
+      Object handback)
+      throws InstanceNotFoundException, ListenerNotFoundException, IOException {
+    delegate.removeNotificationListener(name, listener, filter, handback);
+  }
+
+  @Override
+  public MBeanInfo getMBeanInfo(ObjectName name)
+      throws InstanceNotFoundException, IntrospectionException, ReflectionException, IOException {
+    return delegate.getMBeanInfo(name);
+  }
+
+  @Override
+  public boolean isInstanceOf(ObjectName name, String className)
+      throws InstanceNotFoundException, IOException {
+    return delegate.isInstanceOf(name, className);
+  }
+}
@@ -6,7 +6,6 @@
 package io.opentelemetry.instrumentation.jmx.engine;
 
 import java.util.Collection;
-import javax.management.MBeanServerConnection;
 import javax.management.ObjectName;
 
 /**
@@ -15,15 +14,15 @@ import javax.management.ObjectName;
  */
 class DetectionStatus {
 
-  private final MBeanServerConnection connection;
+  private final CachingMBeanServerConnection connection;
   private final Collection<ObjectName> objectNames;
 
-  DetectionStatus(MBeanServerConnection connection, Collection<ObjectName> objectNames) {
+  DetectionStatus(CachingMBeanServerConnection connection, Collection<ObjectName> objectNames) {
     this.connection = connection;
     this.objectNames = objectNames;
   }
 
-  MBeanServerConnection getConnection() {
+  CachingMBeanServerConnection getConnection() {
     return connection;
   }
 
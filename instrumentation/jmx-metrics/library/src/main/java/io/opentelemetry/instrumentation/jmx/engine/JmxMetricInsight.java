@@ -9,6 +9,7 @@ import static java.util.logging.Level.FINE;
 
 import io.opentelemetry.api.OpenTelemetry;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
 import javax.management.MBeanServerConnection;
@@ -23,18 +24,35 @@ public class JmxMetricInsight {
 
   private final OpenTelemetry openTelemetry;
   private final long discoveryDelay;
+  private final boolean incrementalDiscovery;
+  private final List<BeanFinder> beanFinders = new CopyOnWriteArrayList<>();
 
   public static JmxMetricInsight createService(OpenTelemetry ot, long discoveryDelay) {
-    return new JmxMetricInsight(ot, discoveryDelay);
+    return createService(ot, discoveryDelay, /* incrementalDiscovery= */ false);
+  }
+
+  /**
+   * Creates the service.
+   *
+   * @param ot the {@link OpenTelemetry} to report the metrics to
+   * @param discoveryDelay the number of milliseconds to elapse before looking for MBeans again
+   * @param incrementalDiscovery whether MBeans registered or unregistered after the first look
+   *     should be found via MBean server notifications, instead of looking for all MBeans again
+   */
+  public static JmxMetricInsight createService(
+      OpenTelemetry ot, long discoveryDelay, boolean incrementalDiscovery) {
+    return new JmxMetricInsight(ot, discoveryDelay, incrementalDiscovery);
   }
 
   public static Logger getLogger() {
     return logger;
   }
 
-  private JmxMetricInsight(OpenTelemetry openTelemetry, long discoveryDelay) {
+  private JmxMetricInsight(
+      OpenTelemetry openTelemetry, long discoveryDelay, boolean incrementalDiscovery) {
     this.openTelemetry = openTelemetry;
     this.discoveryDelay = discoveryDelay;
+    this.incrementalDiscovery = incrementalDiscovery;
   }
 
   /**
@@ -66,8 +84,20 @@ public class JmxMetricInsight {
               + INSTRUMENTATION_SCOPE);
     } else {
       MetricRegistrar registrar = new MetricRegistrar(openTelemetry, INSTRUMENTATION_SCOPE);
-      BeanFinder finder = new BeanFinder(registrar, discoveryDelay);
+      BeanFinder finder = new BeanFinder(registrar, discoveryDelay, incrementalDiscovery);
       finder.discoverBeans(conf, connections);
+      beanFinders.add(finder);
+    }
+  }
+
+  /**
+   * Stops looking for MBeans, and unsubscribes from the MBean servers' registration notifications
+   * if incremental discovery is used.
+   */
+  public void stop() {
+    for (BeanFinder finder : beanFinders) {
+      finder.close();
     }
+    beanFinders.clear();
   }
 }
@@ -6,6 +6,7 @@
 package io.opentelemetry.instrumentation.jmx.engine;
 
 import static java.util.logging.Level.INFO;
+import static java.util.logging.Level.WARNING;
 
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.common.Attributes;
@@ -16,8 +17,19 @@ import io.opentelemetry.api.metrics.LongUpDownCounterBuilder;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
 import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+import io.opentelemetry.api.metrics.ObservableMeasurement;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 import javax.management.MBeanServerConnection;
@@ -29,6 +41,21 @@ class MetricRegistrar {
   private static final Logger logger = Logger.getLogger(MetricRegistrar.class.getName());
 
   private final Meter meter;
+  // the callbacks of all metrics read the attributes of an MBean through the same connection, which
+  // reads them in bulk; the caching connections are kept alive by the extractors using them
+  // guarded by itself
+  private final Map<MBeanServerConnection, WeakReference<CachingMBeanServerConnection>>
+      cachingConnections = new WeakHashMap<>();
+  // the metrics enrolled in one discovery pass are observed by one batch callback; the attribute
+  // values read in bulk are shared by the callbacks of all passes for the duration of a collection
+  private final List<MetricExtractor> extractors = new CopyOnWriteArrayList<>();
+  // guarded by this
+  private final List<ObservableMeasurement> pendingMeasurements = new ArrayList<>();
+  // guarded by this
+  private final List<Runnable> pendingObservations = new ArrayList<>();
+  // the batches observed since the attribute values were last read again, guarded by itself
+  private final Set<ObservationBatch> observedBatches =
+      Collections.newSetFromMap(new IdentityHashMap<>());
 
   MetricRegistrar(OpenTelemetry openTelemetry, String instrumentationScope) {
     meter = openTelemetry.getMeter(instrumentationScope);
@@ -49,7 +76,8 @@ class MetricRegistrar {
       MetricExtractor extractor,
       AttributeInfo attributeInfo) {
     // For the first enrollment of the extractor we have to build the corresponding Instrument
-    DetectionStatus status = new DetectionStatus(connection, objectNames);
+    DetectionStatus status =
+        new DetectionStatus(getCachingConnection(connection), objectNames);
     boolean firstEnrollment;
     synchronized (extractor) {
       firstEnrollment = extractor.getStatus() == null;
@@ -80,9 +108,9 @@ class MetricRegistrar {
           Optional.ofNullable(unit).ifPresent(builder::setUnit);
 
           if (attributeInfo.usesDoubleValues()) {
-            builder.ofDoubles().buildWithCallback(doubleTypeCallback(extractor));
+            registerDoubleObserver(extractor, builder.ofDoubles().buildObserver());
           } else {
-            builder.buildWithCallback(longTypeCallback(extractor));
+            registerLongObserver(extractor, builder.buildObserver());
           }
           logger.log(INFO, "Created Counter for {0}", metricName);
         }
@@ -97,9 +125,9 @@ class MetricRegistrar {
           Optional.ofNullable(unit).ifPresent(builder::setUnit);
 
           if (attributeInfo.usesDoubleValues()) {
-            builder.ofDoubles().buildWithCallback(doubleTypeCallback(extractor));
+            registerDoubleObserver(extractor, builder.ofDoubles().buildObserver());
           } else {
-            builder.buildWithCallback(longTypeCallback(extractor));
+            registerLongObserver(extractor, builder.buildObserver());
           }
           logger.log(INFO, "Created UpDownCounter for {0}", metricName);
         }
@@ -114,9 +142,9 @@ class MetricRegistrar {
           Optional.ofNullable(unit).ifPresent(builder::setUnit);
 
           if (attributeInfo.usesDoubleValues()) {
-            builder.buildWithCallback(doubleTypeCallback(extractor));
+            registerDoubleObserver(extractor, builder.buildObserver());
           } else {
-            builder.ofLongs().buildWithCallback(longTypeCallback(extractor));
+            registerLongObserver(extractor, builder.ofLongs().buildObserver());
           }
           logger.log(INFO, "Created Gauge for {0}", metricName);
         }
@@ -130,6 +158,149 @@ class MetricRegistrar {
     }
   }
 
+  /**
+   * Adds MBeans to the ones an extractor gets its metric values from, enrolling the extractor if
+   * this is the first time MBeans have been found for it.
+   *
+   * @param connection the {@link MBeanServerConnection} that knows the MBeans
+   * @param objectNames the {@link ObjectName}s of the MBeans to add
+   * @param extractor the {@link MetricExtractor} responsible for getting the metric values
+   * @param attributeInfo the {@link AttributeInfo}
+   */
+  void addObjectNames(
+      MBeanServerConnection connection,
+      Collection<ObjectName> objectNames,
+      MetricExtractor extractor,
+      AttributeInfo attributeInfo) {
+    Set<ObjectName> allObjectNames = new LinkedHashSet<>();
+    synchronized (extractor) {
+      DetectionStatus status = extractor.getStatus();
+      if (status != null) {
+        if (status.getConnection().getDelegate() != connection) {
+          // Assuming that only one MBeanServer has the required MBeans
+          return;
+        }
+        allObjectNames.addAll(status.getObjectNames());
+      }
+      if (!allObjectNames.addAll(objectNames)) {
+        return;
+      }
+    }
+    enrollExtractor(connection, allObjectNames, extractor, attributeInfo);
+  }
+
+  /**
+   * Stops using MBeans for getting the metric values of an extractor, e.g. because they have been
+   * unregistered.
+   *
+   * @param objectNames the {@link ObjectName}s of the MBeans to remove
+   * @param extractor the {@link MetricExtractor} responsible for getting the metric values
+   */
+  void removeObjectNames(Collection<ObjectName> objectNames, MetricExtractor extractor) {
+    synchronized (extractor) {
+      DetectionStatus status = extractor.getStatus();
+      if (status == null) {
+        return;
+      }
+      Set<ObjectName> remainingObjectNames = new LinkedHashSet<>(status.getObjectNames());
+      if (remainingObjectNames.removeAll(objectNames)) {
+        extractor.setStatus(new DetectionStatus(status.getConnection(), remainingObjectNames));
+      }
+    }
+  }
+
+  private CachingMBeanServerConnection getCachingConnection(MBeanServerConnection connection) {
+    synchronized (cachingConnections) {
+      WeakReference<CachingMBeanServerConnection> reference = cachingConnections.get(connection);
+      CachingMBeanServerConnection cachingConnection = reference != null ? reference.get() : null;
+      if (cachingConnection == null) {
+        cachingConnection = new CachingMBeanServerConnection(connection);
+        cachingConnections.put(connection, new WeakReference<>(cachingConnection));
+      }
+      return cachingConnection;
+    }
+  }
+
+  private void registerDoubleObserver(
+      MetricExtractor extractor, ObservableDoubleMeasurement measurement) {
+    Consumer<ObservableDoubleMeasurement> callback = doubleTypeCallback(extractor);
+    registerObservation(extractor, measurement, () -> callback.accept(measurement));
+  }
+
+  private void registerLongObserver(
+      MetricExtractor extractor, ObservableLongMeasurement measurement) {
+    Consumer<ObservableLongMeasurement> callback = longTypeCallback(extractor);
+    registerObservation(extractor, measurement, () -> callback.accept(measurement));
+  }
+
+  private synchronized void registerObservation(
+      MetricExtractor extractor, ObservableMeasurement measurement, Runnable observation) {
+    extractors.add(extractor);
+    pendingMeasurements.add(measurement);
+    pendingObservations.add(observation);
+  }
+
+  /**
+   * Starts observing the metrics that were enrolled since the last call, with a single batch
+   * callback for all of them. Called at the end of each discovery pass.
+   *
+   * <p>A batch callback observes a fixed set of instruments, so each pass that finds new metrics
+   * adds a callback, and the callbacks of the metrics found before stay registered.
+   */
+  synchronized void registerPendingObservations() {
+    if (pendingMeasurements.isEmpty()) {
+      return;
+    }
+    ObservationBatch batch = new ObservationBatch(new ArrayList<>(pendingObservations));
+    meter.batchCallback(
+        () -> collect(batch),
+        pendingMeasurements.get(0),
+        pendingMeasurements
+            .subList(1, pendingMeasurements.size())
+            .toArray(new ObservableMeasurement[0]));
+    pendingMeasurements.clear();
+    pendingObservations.clear();
+  }
+
+  private void collect(ObservationBatch batch) {
+    // all batch callbacks are called once per collection, so a batch that is observed again means
+    // that a new collection has started, and the attribute values need to be read again
+    synchronized (observedBatches) {
+      if (!observedBatches.add(batch)) {
+        observedBatches.clear();
+        observedBatches.add(batch);
+        startCollection();
+      }
+    }
+    for (Runnable observation : batch.observations) {
+      // like separate callbacks, a failing metric must not keep the others from being observed
+      try {
+        observation.run();
+      } catch (RuntimeException e) {
+        logger.log(WARNING, "Failed to observe JMX metric", e);
+      }
+    }
+  }
+
+  private void startCollection() {
+    Set<CachingMBeanServerConnection> connections =
+        Collections.newSetFromMap(new IdentityHashMap<>());
+    for (MetricExtractor extractor : extractors) {
+      DetectionStatus status = extractor.getStatus();
+      if (status != null && connections.add(status.getConnection())) {
+        status.getConnection().startCollection();
+      }
+    }
+  }
+
+  private static final class ObservationBatch {
+    private final List<Runnable> observations;
+
+    private ObservationBatch(List<Runnable> observations) {
+      this.observations = observations;
+    }
+  }
+
   /*
    * A method generating metric collection callback for asynchronous Measurement
    * of Double type.
@@ -138,7 +309,7 @@ class MetricRegistrar {
     return measurement -> {
       DetectionStatus status = extractor.getStatus();
       if (status != null) {
-        MBeanServerConnection connection = status.getConnection();
+        CachingMBeanServerConnection connection = status.getConnection();
         for (ObjectName objectName : status.getObjectNames()) {
           Number metricValue =
               extractor.getMetricValueExtractor().extractNumericalAttribute(connection, objectName);
@@ -160,7 +331,7 @@ class MetricRegistrar {
     return measurement -> {
       DetectionStatus status = extractor.getStatus();
       if (status != null) {
-        MBeanServerConnection connection = status.getConnection();
+        CachingMBeanServerConnection connection = status.getConnection();
         for (ObjectName objectName : status.getObjectNames()) {
           Number metricValue =
               extractor.getMetricValueExtractor().extractNumericalAttribute(connection, objectName);
@@ -0,0 +1,58 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jmx.engine;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+
+class BeanMatcherTest {
+
+  @Test
+  void matchesPatternsOfAllMetricDefs() throws Exception {
+    MetricDef brokerTopic =
+        metricDef(
+            "kafka.server:type=BrokerTopicMetrics,name=BytesInPerSec",
+            "kafka.server:type=BrokerTopicMetrics,name=BytesOutPerSec");
+    MetricDef anyReplicaManager = metricDef("kafka.server:type=ReplicaManager,name=*");
+    MetricDef anyKafkaServer = metricDef("kafka.server:*");
+    MetricDef anyThreadPool = metricDef("*:type=ThreadPool,name=*");
+    MetricDef memory = metricDef("java.lang:type=Memory");
+    BeanMatcher matcher =
+        new BeanMatcher(
+            asList(brokerTopic, anyReplicaManager, anyKafkaServer, anyThreadPool, memory));
+
+    assertThat(
+            matcher.getMatchingMetricDefs(
+                new ObjectName("kafka.server:type=BrokerTopicMetrics,name=BytesOutPerSec")))
+        .containsExactlyInAnyOrder(brokerTopic, anyKafkaServer);
+    assertThat(
+            matcher.getMatchingMetricDefs(
+                new ObjectName("kafka.server:type=BrokerTopicMetrics,name=MessagesInPerSec")))
+        .containsExactly(anyKafkaServer);
+    assertThat(
+            matcher.getMatchingMetricDefs(
+                new ObjectName("kafka.server:type=ReplicaManager,name=PartitionCount")))
+        .containsExactlyInAnyOrder(anyReplicaManager, anyKafkaServer);
+    assertThat(
+            matcher.getMatchingMetricDefs(
+                new ObjectName("Catalina:type=ThreadPool,name=\"http-nio-8080\"")))
+        .containsExactly(anyThreadPool);
+    assertThat(matcher.getMatchingMetricDefs(new ObjectName("java.lang:type=Memory")))
+        .containsExactly(memory);
+    assertThat(
+            matcher.getMatchingMetricDefs(
+                new ObjectName("java.lang:type=MemoryPool,name=Metaspace")))
+        .isEmpty();
+  }
+
+  private static MetricDef metricDef(String... beans) throws Exception {
+    return new MetricDef(BeanGroup.forBeans(asList(beans)), emptyList());
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jmx.engine;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingMBeanServerConnectionTest {
+
+  private MBeanServerConnection delegate;
+  private CachingMBeanServerConnection connection;
+  private ObjectName objectName;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    delegate = mock(MBeanServerConnection.class);
+    connection = new CachingMBeanServerConnection(delegate);
+    objectName = new ObjectName("otel.jmx.test:type=Test1");
+    when(delegate.getAttribute(objectName, "Count")).thenReturn(1);
+    when(delegate.getAttribute(objectName, "Name")).thenReturn("test");
+    when(delegate.getAttributes(any(), any()))
+        .thenReturn(
+            new AttributeList(asList(new Attribute("Count", 2), new Attribute("Name", "x"))));
+  }
+
+  @Test
+  void readsAttributesInBulkAfterFirstCollection() throws Exception {
+    // the first collection learns which attributes are used
+    connection.startCollection();
+    assertThat(connection.getAttribute(objectName, "Count")).isEqualTo(1);
+    assertThat(connection.getAttribute(objectName, "Count")).isEqualTo(1);
+    assertThat(connection.getAttribute(objectName, "Name")).isEqualTo("test");
+    verify(delegate, never()).getAttributes(any(), any());
+    verify(delegate, times(1)).getAttribute(objectName, "Count");
+
+    // the following collections read all of them at once
+    connection.startCollection();
+    assertThat(connection.getAttribute(objectName, "Count")).isEqualTo(2);
+    assertThat(connection.getAttribute(objectName, "Name")).isEqualTo("x");
+    verify(delegate, times(1)).getAttributes(objectName, new String[] {"Count", "Name"});
+    verify(delegate, times(1)).getAttribute(objectName, "Count");
+    verify(delegate, times(1)).getAttribute(objectName, "Name");
+  }
+
+  @Test
+  void forgetsMBeansNotReadInPreviousCollection() throws Exception {
+    connection.startCollection();
+    connection.getAttribute(objectName, "Count");
+
+    // the MBean is not read in this collection, e.g. because it has been unregistered
+    connection.startCollection();
+    connection.startCollection();
+    assertThat(connection.getAttribute(objectName, "Count")).isEqualTo(1);
+    verify(delegate, never()).getAttributes(any(), any());
+    verify(delegate, times(2)).getAttribute(objectName, "Count");
+  }
+
+  @Test
+  void attributeErrorsAreNotCached() throws Exception {
+    when(delegate.getAttribute(objectName, "Missing"))
+        .thenThrow(new AttributeNotFoundException("Missing"));
+
+    connection.startCollection();
+    assertThatThrownBy(() -> connection.getAttribute(objectName, "Missing"))
+        .isInstanceOf(AttributeNotFoundException.class);
+    assertThatThrownBy(() -> connection.getAttribute(objectName, "Missing"))
+        .isInstanceOf(AttributeNotFoundException.class);
+    verify(delegate, times(2)).getAttribute(objectName, "Missing");
+    verify(delegate, never()).getAttributes(any(), any());
+  }
+}
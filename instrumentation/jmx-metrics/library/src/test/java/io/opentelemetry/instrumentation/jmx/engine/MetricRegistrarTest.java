@@ -0,0 +1,178 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jmx.engine;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MetricRegistrarTest {
+
+  @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
+  public interface CounterMBean {
+
+    int getCount();
+  }
+
+  private static class Counter implements CounterMBean {
+    private volatile int count = 1;
+
+    @Override
+    public int getCount() {
+      return count;
+    }
+  }
+
+  private MBeanServer server;
+  private SdkMeterProvider meterProvider;
+  private InMemoryMetricReader metricReader;
+  private MetricRegistrar registrar;
+  private MetricExtractor extractor;
+  private ObjectName first;
+  private ObjectName second;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    server = MBeanServerFactory.newMBeanServer();
+    first = new ObjectName("otel.jmx.test:type=Counter,name=first");
+    second = new ObjectName("otel.jmx.test:type=Counter,name=second");
+    server.registerMBean(new Counter(), first);
+    server.registerMBean(new Counter(), second);
+
+    metricReader = InMemoryMetricReader.create();
+    meterProvider = SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+    registrar =
+        new MetricRegistrar(
+            OpenTelemetrySdk.builder().setMeterProvider(meterProvider).build(), "test");
+    extractor =
+        new MetricExtractor(
+            BeanAttributeExtractor.fromName("Count"),
+            new MetricInfo("test.count", null, "1", MetricInfo.Type.GAUGE),
+            singletonList(
+                new MetricAttribute(
+                    "name", MetricAttributeExtractor.fromObjectNameParameter("name"))));
+  }
+
+  @AfterEach
+  void tearDown() {
+    meterProvider.close();
+  }
+
+  @Test
+  void addAndRemoveObjectNames() {
+    AttributeInfo attributeInfo = new AttributeInfo(0, null);
+
+    // the first MBean enrolls the extractor
+    registrar.addObjectNames(server, singletonList(first), extractor, attributeInfo);
+    registrar.registerPendingObservations();
+    assertThat(collectPointCount()).isEqualTo(1);
+
+    registrar.addObjectNames(server, asList(first, second), extractor, attributeInfo);
+    assertThat(collectPointCount()).isEqualTo(2);
+
+    registrar.removeObjectNames(singletonList(first), extractor);
+    assertThat(collectPointCount()).isEqualTo(1);
+    assertThat(extractor.getStatus().getObjectNames()).containsExactly(second);
+  }
+
+  @Test
+  void addObjectNamesFromOtherServerIgnored() {
+    AttributeInfo attributeInfo = new AttributeInfo(0, null);
+    registrar.addObjectNames(server, singletonList(first), extractor, attributeInfo);
+
+    registrar.addObjectNames(
+        MBeanServerFactory.newMBeanServer(), singletonList(second), extractor, attributeInfo);
+
+    assertThat(extractor.getStatus().getObjectNames()).containsExactly(first);
+  }
+
+  @Test
+  void attributeValuesReadAgainInEachCollection() throws Exception {
+    AttributeInfo attributeInfo = new AttributeInfo(0, null);
+    Counter counter = new Counter();
+    ObjectName third = new ObjectName("otel.jmx.test:type=Counter,name=third");
+    server.registerMBean(counter, third);
+    MetricExtractor otherExtractor =
+        new MetricExtractor(
+            BeanAttributeExtractor.fromName("Count"),
+            new MetricInfo("test.other.count", null, "1", MetricInfo.Type.GAUGE),
+            singletonList(
+                new MetricAttribute(
+                    "name", MetricAttributeExtractor.fromObjectNameParameter("name"))));
+    registrar.addObjectNames(server, singletonList(third), extractor, attributeInfo);
+    registrar.addObjectNames(server, singletonList(third), otherExtractor, attributeInfo);
+    registrar.registerPendingObservations();
+
+    assertThat(collectValues()).containsExactly(1L, 1L);
+    counter.count = 2;
+    assertThat(collectValues()).containsExactly(2L, 2L);
+    counter.count = 3;
+    assertThat(collectValues()).containsExactly(3L, 3L);
+  }
+
+  @Test
+  void metricsOfEarlierPassesKeepBeingReported() throws Exception {
+    AttributeInfo attributeInfo = new AttributeInfo(0, null);
+    Counter counter = new Counter();
+    ObjectName third = new ObjectName("otel.jmx.test:type=Counter,name=third");
+    server.registerMBean(counter, third);
+    MetricExtractor otherExtractor =
+        new MetricExtractor(
+            BeanAttributeExtractor.fromName("Count"),
+            new MetricInfo("test.other.count", null, "1", MetricInfo.Type.GAUGE),
+            singletonList(
+                new MetricAttribute(
+                    "name", MetricAttributeExtractor.fromObjectNameParameter("name"))));
+
+    registrar.addObjectNames(server, singletonList(third), extractor, attributeInfo);
+    registrar.registerPendingObservations();
+    assertThat(collectValues()).containsExactly(1L);
+
+    // a collection while a discovery pass is enrolling metrics still reports the earlier ones
+    registrar.addObjectNames(server, singletonList(third), otherExtractor, attributeInfo);
+    assertThat(collectValues()).containsExactly(1L);
+
+    registrar.registerPendingObservations();
+    counter.count = 2;
+    assertThat(collectValues()).containsExactly(2L, 2L);
+    counter.count = 3;
+    assertThat(collectValues()).containsExactly(3L, 3L);
+  }
+
+  @Test
+  void nothingRegisteredWithoutPendingMetrics() {
+    registrar.registerPendingObservations();
+
+    assertThat(collectPointCount()).isZero();
+  }
+
+  private List<Long> collectValues() {
+    return metricReader.collectAllMetrics().stream()
+        .flatMap(metric -> metric.getLongGaugeData().getPoints().stream())
+        .map(LongPointData::getValue)
+        .collect(Collectors.toList());
+  }
+
+  private int collectPointCount() {
+    Collection<MetricData> metrics = metricReader.collectAllMetrics();
+    return metrics.stream().mapToInt(metric -> metric.getData().getPoints().size()).sum();
+  }
+}
@@ -1,5 +1,6 @@
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 dependencies {
@@ -8,4 +9,7 @@ dependencies {
   library("io.micrometer:micrometer-core:1.5.0")
 
   testImplementation(project(":instrumentation:micrometer:micrometer-1.5:testing"))
+
+  jmhImplementation("io.micrometer:micrometer-core:1.5.0")
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk-testing")
 }
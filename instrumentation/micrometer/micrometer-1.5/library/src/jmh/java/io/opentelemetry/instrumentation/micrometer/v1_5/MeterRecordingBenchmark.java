@@ -0,0 +1,96 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.micrometer.v1_5;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares recording to tagged micrometer meters of the OpenTelemetry bridge with recording to the
+ * same meters of micrometer's own {@link SimpleMeterRegistry}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MeterRecordingBenchmark {
+
+  private static final Tags TAGS =
+      Tags.of("method", "GET", "status", "200", "uri", "/api/orders/{id}");
+
+  @Param({"opentelemetry", "simple"})
+  public String registry;
+
+  private SdkMeterProvider meterProvider;
+  private MeterRegistry meterRegistry;
+  private Counter counter;
+  private Timer timer;
+  private DistributionSummary distributionSummary;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    if (registry.equals("opentelemetry")) {
+      meterProvider =
+          SdkMeterProvider.builder().registerMetricReader(InMemoryMetricReader.create()).build();
+      meterRegistry =
+          OpenTelemetryMeterRegistry.create(
+              OpenTelemetrySdk.builder().setMeterProvider(meterProvider).build());
+    } else {
+      meterRegistry = new SimpleMeterRegistry();
+    }
+    counter = meterRegistry.counter("test.counter", TAGS);
+    timer = meterRegistry.timer("test.timer", TAGS);
+    distributionSummary = meterRegistry.summary("test.summary", TAGS);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    meterRegistry.close();
+    if (meterProvider != null) {
+      meterProvider.close();
+    }
+  }
+
+  @Benchmark
+  public void counterIncrement() {
+    counter.increment();
+  }
+
+  @Benchmark
+  public void timerRecord() {
+    timer.record(42, TimeUnit.MILLISECONDS);
+  }
+
+  @Benchmark
+  public void distributionSummaryRecord() {
+    distributionSummary.record(42);
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.mongo.v3_1;
+
+import io.opentelemetry.instrumentation.api.internal.ReusableStringBuilder;
+import java.util.Map;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+/**
+ * Writes the sanitized form of a command directly as JSON, replacing every value with {@code "?"}
+ * except for the value of the first top-level field (the command name, which for most CRUD commands
+ * holds the collection name).
+ *
+ * <p>Unlike rendering the command through a {@code JsonWriter} and truncating the result, this stops
+ * visiting the command as soon as the max length is reached, so e.g. large {@code insert} commands
+ * don't have all their documents visited. Results for repeated command shapes are served from a
+ * small cache, so that the same statement string is returned without allocating a new one.
+ */
+final class SanitizedStatementWriter {
+
+  private static final String HIDDEN_VALUE = "\"?\"";
+  private static final int CACHE_SIZE = 256;
+
+  private static final ThreadLocal<ReusableStringBuilder> threadBuilder =
+      ThreadLocal.withInitial(() -> new ReusableStringBuilder(128));
+
+  private final int maxLength;
+  // direct-mapped cache of recently returned statements, indexed by their hash code; races only
+  // result in cache misses because the entries are immutable strings
+  private final String[] cache = new String[CACHE_SIZE];
+
+  SanitizedStatementWriter(int maxLength) {
+    this.maxLength = maxLength;
+  }
+
+  String sanitize(BsonDocument command) {
+    ReusableStringBuilder reusableBuilder = threadBuilder.get();
+    StringBuilder builder = reusableBuilder.start();
+    writeDocument(command, builder, /* isRoot= */ true);
+    if (builder.length() > maxLength) {
+      builder.setLength(maxLength);
+    }
+
+    String statement = getCached(builder);
+    reusableBuilder.release();
+    return statement;
+  }
+
+  private String getCached(StringBuilder builder) {
+    int hash = 0;
+    for (int i = 0; i < builder.length(); i++) {
+      hash = 31 * hash + builder.charAt(i);
+    }
+    int index = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+    String cached = cache[index];
+    if (cached != null && cached.contentEquals(builder)) {
+      return cached;
+    }
+    String statement = builder.toString();
+    cache[index] = statement;
+    return statement;
+  }
+
+  // returns true when the max length was reached and nothing more should be written
+  private boolean writeDocument(BsonDocument document, StringBuilder builder, boolean isRoot) {
+    builder.append('{');
+    boolean firstField = true;
+    for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+      if (!firstField) {
+        builder.append(", ");
+      }
+      writeString(entry.getKey(), builder);
+      builder.append(": ");
+      BsonValue value = entry.getValue();
+      // the first field of the root document is the command name, so we preserve its value
+      // (which for most CRUD commands is the collection name)
+      if (isRoot && firstField && value.isString()) {
+        writeString(value.asString().getValue(), builder);
+      } else if (writeValue(value, builder)) {
+        return true;
+      }
+      if (builder.length() >= maxLength) {
+        return true;
+      }
+      firstField = false;
+    }
+    builder.append('}');
+    return false;
+  }
+
+  private boolean writeArray(BsonArray array, StringBuilder builder) {
+    builder.append('[');
+    boolean first = true;
+    for (BsonValue value : array) {
+      if (!first) {
+        builder.append(", ");
+      }
+      if (writeValue(value, builder) || builder.length() >= maxLength) {
+        return true;
+      }
+      first = false;
+    }
+    builder.append(']');
+    return false;
+  }
+
+  private boolean writeValue(BsonValue value, StringBuilder builder) {
+    if (value.isDocument()) {
+      return writeDocument(value.asDocument(), builder, /* isRoot= */ false);
+    } else if (value.isArray()) {
+      return writeArray(value.asArray(), builder);
+    }
+    builder.append(HIDDEN_VALUE);
+    return false;
+  }
+
+  private static void writeString(String value, StringBuilder builder) {
+    builder.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          builder.append("\\\"");
+          break;
+        case '\\':
+          builder.append("\\\\");
+          break;
+        case '\b':
+          builder.append("\\b");
+          break;
+        case '\f':
+          builder.append("\\f");
+          break;
+        case '\n':
+          builder.append("\\n");
+          break;
+        case '\r':
+          builder.append("\\r");
+          break;
+        case '\t':
+          builder.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            builder.append("\\u00").append(Character.forDigit(c >> 4, 16));
+            builder.append(Character.forDigit(c & 0xF, 16));
+          } else {
+            builder.append(c);
+          }
+      }
+    }
+    builder.append('"');
+  }
+}
@@ -92,6 +92,53 @@ class MongoDbAttributesGetterTest {
         .isIn("{\"cmd\": \"c\", \"f1\": [\"?\", \"?", "{\"cmd\": \"c\", \"f1\": [\"?\",");
   }
 
+  @Test
+  @DisplayName("should escape names and preserved values")
+  void shouldEscapeNamesAndPreservedValues() {
+    MongoDbAttributesGetter extractor =
+        new MongoDbAttributesGetter(true, DEFAULT_MAX_NORMALIZED_QUERY_LENGTH);
+
+    assertThat(
+            extractor.sanitizeStatement(
+                new BsonDocument("cmd", new BsonString("a\"b\\c"))
+                    .append("f\n", new BsonString("c"))))
+        .isEqualTo("{\"cmd\": \"a\\\"b\\\\c\", \"f\\n\": \"?\"}");
+  }
+
+  @Test
+  @DisplayName("should stop visiting large commands at max length")
+  void shouldStopVisitingLargeCommandsAtMaxLength() {
+    MongoDbAttributesGetter extractor = new MongoDbAttributesGetter(true, 40);
+
+    BsonArray documents = new BsonArray();
+    for (int i = 0; i < 10_000; i++) {
+      documents.add(new BsonDocument("_id", new BsonInt32(i)));
+    }
+    String normalized =
+        extractor.sanitizeStatement(
+            new BsonDocument("insert", new BsonString("c")).append("documents", documents));
+
+    assertThat(normalized).isEqualTo("{\"insert\": \"c\", \"documents\": [{\"_id\": \"?");
+  }
+
+  @Test
+  @DisplayName("should reuse statement for repeated command shapes")
+  void shouldReuseStatementForRepeatedCommandShapes() {
+    MongoDbAttributesGetter extractor =
+        new MongoDbAttributesGetter(true, DEFAULT_MAX_NORMALIZED_QUERY_LENGTH);
+
+    String first =
+        extractor.sanitizeStatement(
+            new BsonDocument("find", new BsonString("c"))
+                .append("filter", new BsonDocument("a", new BsonInt32(1))));
+    String second =
+        extractor.sanitizeStatement(
+            new BsonDocument("find", new BsonString("c"))
+                .append("filter", new BsonDocument("a", new BsonInt32(2))));
+
+    assertThat(second).isSameAs(first);
+  }
+
   static String sanitizeStatementAcrossVersions(
       MongoDbAttributesGetter extractor, BsonDocument query) {
     return sanitizeAcrossVersions(extractor.sanitizeStatement(query));
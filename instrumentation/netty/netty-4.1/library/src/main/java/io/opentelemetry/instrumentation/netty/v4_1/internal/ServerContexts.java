@@ -7,8 +7,7 @@ package io.opentelemetry.instrumentation.netty.v4_1.internal;
 
 import io.netty.channel.Channel;
 import io.netty.util.Attribute;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import javax.annotation.Nullable;
 
 /**
  * A helper class for keeping track of incoming requests and spans associated with them.
@@ -18,10 +17,15 @@ import java.util.Deque;
  */
 public final class ServerContexts {
   private static final int PIPELINING_LIMIT = 1000;
+  // most connections never pipeline, so start with a small ring and only grow it when needed
+  private static final int INITIAL_CAPACITY = 2;
   // With http pipelining multiple requests can be sent on the same connection. Responses should be
-  // sent in the same order the requests came in. We use this deque to store the request context
-  // and pop elements as responses are sent.
-  private final Deque<ServerContext> serverContexts = new ArrayDeque<>();
+  // sent in the same order the requests came in. We use this ring buffer to store the request
+  // context and pop elements as responses are sent. The ring is allocated once per channel and
+  // reused for all requests on a keep-alive connection.
+  private ServerContext[] serverContexts = new ServerContext[INITIAL_CAPACITY];
+  private int head;
+  private int size;
   private volatile boolean broken = false;
 
   private ServerContexts() {}
@@ -45,20 +49,38 @@ public final class ServerContexts {
     return serverContexts != null ? serverContexts.peekFirst() : null;
   }
 
+  @Nullable
   public ServerContext peekFirst() {
-    return serverContexts.peekFirst();
+    return size == 0 ? null : serverContexts[head];
   }
 
+  @Nullable
   public ServerContext peekLast() {
-    return serverContexts.peekFirst();
+    return peekFirst();
   }
 
+  @Nullable
   public ServerContext pollFirst() {
-    return serverContexts.pollFirst();
+    if (size == 0) {
+      return null;
+    }
+    ServerContext result = serverContexts[head];
+    serverContexts[head] = null;
+    head = (head + 1) % serverContexts.length;
+    size--;
+    return result;
   }
 
+  @Nullable
   public ServerContext pollLast() {
-    return serverContexts.pollLast();
+    if (size == 0) {
+      return null;
+    }
+    int tail = (head + size - 1) % serverContexts.length;
+    ServerContext result = serverContexts[tail];
+    serverContexts[tail] = null;
+    size--;
+    return result;
   }
 
   public void addLast(ServerContext context) {
@@ -70,10 +92,29 @@ public final class ServerContexts {
     // from the deque and there could be a memory leak. This could happen when http server decides
     // not to send response to some requests, for example see
     // https://github.com/open-telemetry/opentelemetry-java-instrumentation/issues/11942
-    if (serverContexts.size() > PIPELINING_LIMIT) {
+    if (size > PIPELINING_LIMIT) {
       broken = true;
-      serverContexts.clear();
+      clear();
+    }
+    if (size == serverContexts.length) {
+      grow();
+    }
+    serverContexts[(head + size) % serverContexts.length] = context;
+    size++;
+  }
+
+  private void clear() {
+    serverContexts = new ServerContext[INITIAL_CAPACITY];
+    head = 0;
+    size = 0;
+  }
+
+  private void grow() {
+    ServerContext[] newServerContexts = new ServerContext[serverContexts.length * 2];
+    for (int i = 0; i < size; i++) {
+      newServerContexts[i] = serverContexts[(head + i) % serverContexts.length];
     }
-    serverContexts.addLast(context);
+    serverContexts = newServerContexts;
+    head = 0;
   }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.netty.v4_1.internal.server;
+
+import io.netty.util.AsciiString;
+import io.opentelemetry.context.propagation.internal.ExtendedTextMapGetter;
+import io.opentelemetry.instrumentation.netty.v4.common.HttpRequestAndChannel;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ExtendedTextMapGetter} that looks up request headers using {@link AsciiString} names.
+ * Netty 4.1 {@code HttpHeaders} hash and compare {@link AsciiString} names without copying, and
+ * the name's hash code is computed only once, so propagation header lookups done for every request
+ * don't allocate.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public enum NettyHttpServerHeadersGetter implements ExtendedTextMapGetter<HttpRequestAndChannel> {
+  INSTANCE;
+
+  // propagators only ever ask for a handful of header names, the limit guards against callers that
+  // use dynamically generated names
+  private static final int MAX_CACHED_NAMES = 64;
+  private static final ConcurrentMap<String, AsciiString> headerNames = new ConcurrentHashMap<>();
+
+  @Override
+  public Iterable<String> keys(HttpRequestAndChannel carrier) {
+    return carrier.request().headers().names();
+  }
+
+  @Nullable
+  @Override
+  public String get(@Nullable HttpRequestAndChannel carrier, String key) {
+    if (carrier == null) {
+      return null;
+    }
+    return carrier.request().headers().get(headerName(key));
+  }
+
+  @Override
+  public Iterator<String> getAll(@Nullable HttpRequestAndChannel carrier, String key) {
+    if (carrier == null) {
+      return Collections.emptyIterator();
+    }
+    List<String> list = carrier.request().headers().getAll(headerName(key));
+    return list != null ? list.iterator() : Collections.emptyIterator();
+  }
+
+  private static CharSequence headerName(String key) {
+    AsciiString name = headerNames.get(key);
+    if (name != null) {
+      return name;
+    }
+    if (headerNames.size() >= MAX_CACHED_NAMES) {
+      return key;
+    }
+    name = new AsciiString(key);
+    AsciiString previous = headerNames.putIfAbsent(key, name);
+    return previous != null ? previous : name;
+  }
+}
@@ -1,5 +1,6 @@
 plugins {
   id("otel.javaagent-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 muzzle {
@@ -41,6 +42,10 @@ dependencies {
 
   // @WithSpan annotation is used to generate spans in ContextBridgeTest
   testImplementation(project(":instrumentation-annotations"))
+
+  // the benchmarks exercise the bridge directly, without the agent
+  jmhImplementation(project(":opentelemetry-api-shaded-for-instrumenting", configuration = "shadow"))
+  jmhImplementation("io.opentelemetry:opentelemetry-api")
 }
 
 configurations.configureEach {
@@ -0,0 +1,94 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.opentelemetryapi.context;
+
+import application.io.opentelemetry.api.trace.Span;
+import application.io.opentelemetry.context.Context;
+import application.io.opentelemetry.context.ContextKey;
+import application.io.opentelemetry.context.ContextStorage;
+import application.io.opentelemetry.context.Scope;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the application API calls that go through the context bridge: {@code Span.current()}
+ * in a context made current by the agent and in one made current by the application, where the
+ * wrapper and its bridged span are reused, and {@code makeCurrent()} of a context the application
+ * got from {@code Context.current()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class AgentContextStorageBenchmark {
+
+  private static final ContextKey<String> KEY = ContextKey.named("benchmark-key");
+
+  private ContextStorage storage;
+  private io.opentelemetry.context.Scope agentScope;
+  private Context applicationContext;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    storage = AgentContextStorage.wrap().apply(ContextStorage.get());
+
+    io.opentelemetry.api.trace.Span agentSpan =
+        io.opentelemetry.api.trace.Span.wrap(
+            SpanContext.create(
+                "ff01020304050600ff0a0b0c0d0e0f00",
+                "090a0b0c0d0e0f00",
+                TraceFlags.getSampled(),
+                TraceState.getDefault()));
+    // a span started by the agent, e.g. by a server instrumentation
+    agentScope = io.opentelemetry.context.Context.root().with(agentSpan).makeCurrent();
+    // a context created by the application, e.g. to pass it to another thread
+    applicationContext = storage.current().with(KEY, "value");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    agentScope.close();
+  }
+
+  @Benchmark
+  public Span spanCurrent() {
+    return Span.fromContext(storage.current());
+  }
+
+  @Benchmark
+  public Span spanCurrentInApplicationContext() {
+    try (Scope ignored = storage.attach(applicationContext)) {
+      Span span = null;
+      // all but the first call find the wrapper created by the first one
+      for (int i = 0; i < 10; i++) {
+        span = Span.fromContext(storage.current());
+      }
+      return span;
+    }
+  }
+
+  @Benchmark
+  public Span makeCurrent() {
+    try (Scope ignored = storage.attach(applicationContext)) {
+      return Span.fromContext(storage.current());
+    }
+  }
+}
@@ -17,6 +17,7 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.util.function.Function;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * {@link ContextStorage} which stores the {@link Context} in the user's application inside the
@@ -136,14 +137,20 @@ public class AgentContextStorage implements ContextStorage, AutoCloseable {
     return new AgentContextWrapper(agentContext, applicationContext);
   }
 
-  static final io.opentelemetry.context.ContextKey<Context> APPLICATION_CONTEXT =
+  static final io.opentelemetry.context.ContextKey<ApplicationContextHolder> APPLICATION_CONTEXT =
       io.opentelemetry.context.ContextKey.named("otel-context");
 
+  @Nullable
+  static Context getApplicationContext(io.opentelemetry.context.Context agentContext) {
+    ApplicationContextHolder holder = agentContext.get(APPLICATION_CONTEXT);
+    return holder != null ? holder.applicationContext : null;
+  }
+
   @Override
   public Scope attach(Context toAttach) {
     io.opentelemetry.context.Context currentAgentContext =
         io.opentelemetry.context.Context.current();
-    Context currentApplicationContext = currentAgentContext.get(APPLICATION_CONTEXT);
+    Context currentApplicationContext = getApplicationContext(currentAgentContext);
     if (currentApplicationContext == null) {
       currentApplicationContext = applicationRoot;
     }
@@ -157,7 +164,8 @@ public class AgentContextStorage implements ContextStorage, AutoCloseable {
       }
       newAgentContext = wrapper.toAgentContext();
     } else {
-      newAgentContext = currentAgentContext.with(APPLICATION_CONTEXT, toAttach);
+      newAgentContext =
+          currentAgentContext.with(APPLICATION_CONTEXT, new ApplicationContextHolder(toAttach));
     }
 
     return newAgentContext.makeCurrent()::close;
@@ -166,15 +174,40 @@ public class AgentContextStorage implements ContextStorage, AutoCloseable {
   @Override
   public Context current() {
     io.opentelemetry.context.Context agentContext = io.opentelemetry.context.Context.current();
-    Context applicationContext = agentContext.get(APPLICATION_CONTEXT);
-    if (applicationContext == null) {
-      applicationContext = applicationRoot;
+    ApplicationContextHolder holder = agentContext.get(APPLICATION_CONTEXT);
+    if (holder == null) {
+      if (agentContext == io.opentelemetry.context.Context.root()) {
+        return root;
+      }
+      return new AgentContextWrapper(agentContext, applicationRoot);
     }
-    if (applicationContext == applicationRoot
-        && agentContext == io.opentelemetry.context.Context.root()) {
-      return root;
+    // the application keeps asking for the context it has made current, e.g. with Span.current(),
+    // reusing the wrapper also reuses the values it has already bridged
+    AgentContextWrapper wrapper = holder.currentWrapper;
+    if (wrapper != null && wrapper.agentContext == agentContext) {
+      return wrapper;
+    }
+    wrapper =
+        new AgentContextWrapper(
+            agentContext, holder.applicationContext, /* cacheApplicationValues= */ true);
+    holder.currentWrapper = wrapper;
+    return wrapper;
+  }
+
+  /**
+   * The application context stored in the agent context. It also remembers the wrapper last
+   * returned by {@link #current()} for an agent context that holds it, i.e. the context that the
+   * application has made current or one derived from it by the agent, e.g. with a span.
+   */
+  static final class ApplicationContextHolder {
+    final Context applicationContext;
+    // races only result in creating another wrapper; only references contexts that hold this
+    // holder, so it does not keep any other context reachable
+    @Nullable AgentContextWrapper currentWrapper;
+
+    ApplicationContextHolder(Context applicationContext) {
+      this.applicationContext = applicationContext;
     }
-    return new AgentContextWrapper(agentContext, applicationContext);
   }
 
   @Override
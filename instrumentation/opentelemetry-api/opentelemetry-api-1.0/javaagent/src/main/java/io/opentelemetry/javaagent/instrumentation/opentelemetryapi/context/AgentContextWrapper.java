@@ -13,6 +13,7 @@ import io.opentelemetry.javaagent.instrumentation.opentelemetryapi.trace.Bridgin
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import javax.annotation.Nullable;
 
 final class AgentContextWrapper implements Context {
 
@@ -26,7 +27,8 @@ final class AgentContextWrapper implements Context {
               "application.io.opentelemetry.api.trace.SpanContextKey",
               "io.opentelemetry.api.trace.SpanContextKey",
               Bridging::toApplication,
-              Bridging::toAgentOrNull));
+              Bridging::toAgentOrNull)
+              .cacheApplicationValues());
     } catch (Throwable ignored) {
       // reflection error; in practice should never happen, we can ignore it
     }
@@ -36,7 +38,8 @@ final class AgentContextWrapper implements Context {
               "application.io.opentelemetry.api.baggage.BaggageContextKey",
               "io.opentelemetry.api.baggage.BaggageContextKey",
               BaggageBridging::toApplication,
-              BaggageBridging::toAgent));
+              BaggageBridging::toAgent)
+              .cacheApplicationValues());
     } catch (Throwable ignored) {
       // reflection error; in practice should never happen, we can ignore it
     }
@@ -46,24 +49,40 @@ final class AgentContextWrapper implements Context {
 
   final io.opentelemetry.context.Context agentContext;
   final Context applicationContext;
+  // only wrappers that get reused cache the values converted by caching bridges, for the others
+  // the cache would only be an extra allocation
+  private final boolean cacheApplicationValues;
+  // application values converted by caching bridges, indexed like CONTEXT_KEY_BRIDGES; lazily
+  // created, races only result in converting a value more than once
+  @Nullable private Object[] applicationValues;
 
   AgentContextWrapper(io.opentelemetry.context.Context agentContext) {
-    this(agentContext, agentContext.get(AgentContextStorage.APPLICATION_CONTEXT));
+    this(agentContext, AgentContextStorage.getApplicationContext(agentContext));
   }
 
   AgentContextWrapper(io.opentelemetry.context.Context agentContext, Context applicationContext) {
+    this(agentContext, applicationContext, /* cacheApplicationValues= */ false);
+  }
+
+  AgentContextWrapper(
+      io.opentelemetry.context.Context agentContext,
+      Context applicationContext,
+      boolean cacheApplicationValues) {
     if (applicationContext instanceof AgentContextWrapper) {
       throw new IllegalStateException("Expected unwrapped context");
     }
     this.agentContext = agentContext;
     this.applicationContext = applicationContext;
+    this.cacheApplicationValues = cacheApplicationValues;
   }
 
   io.opentelemetry.context.Context toAgentContext() {
-    if (agentContext.get(AgentContextStorage.APPLICATION_CONTEXT) == applicationContext) {
+    if (AgentContextStorage.getApplicationContext(agentContext) == applicationContext) {
       return agentContext;
     }
-    return agentContext.with(AgentContextStorage.APPLICATION_CONTEXT, applicationContext);
+    return agentContext.with(
+        AgentContextStorage.APPLICATION_CONTEXT,
+        new AgentContextStorage.ApplicationContextHolder(applicationContext));
   }
 
   public io.opentelemetry.context.Context getAgentContext() {
@@ -72,8 +91,15 @@ final class AgentContextWrapper implements Context {
 
   @Override
   public <V> V get(ContextKey<V> key) {
-    for (ContextKeyBridge<?, ?> bridge : CONTEXT_KEY_BRIDGES) {
-      V value = bridge.get(this, key);
+    for (int i = 0; i < CONTEXT_KEY_BRIDGES.size(); i++) {
+      ContextKeyBridge<?, ?> bridge = CONTEXT_KEY_BRIDGES.get(i);
+      if (!bridge.bridges(key)) {
+        continue;
+      }
+      V value =
+          cacheApplicationValues && bridge.isCachingApplicationValues()
+              ? getCached(i, bridge, key)
+              : bridge.get(this, key);
       if (value != null) {
         return value;
       }
@@ -82,6 +108,22 @@ final class AgentContextWrapper implements Context {
     return applicationContext.get(key);
   }
 
+  @Nullable
+  private <V> V getCached(int index, ContextKeyBridge<?, ?> bridge, ContextKey<V> key) {
+    Object[] values = applicationValues;
+    if (values == null) {
+      values = new Object[CONTEXT_KEY_BRIDGES.size()];
+      applicationValues = values;
+    }
+    @SuppressWarnings("unchecked")
+    V value = (V) values[index];
+    if (value == null) {
+      value = bridge.get(this, key);
+      values[index] = value;
+    }
+    return value;
+  }
+
   @Override
   public <V> Context with(ContextKey<V> k1, V v1) {
     for (ContextKeyBridge<?, ?> bridge : CONTEXT_KEY_BRIDGES) {
@@ -17,6 +17,8 @@ final class ContextKeyBridge<APPLICATION, AGENT> {
   private final io.opentelemetry.context.ContextKey<AGENT> agentContextKey;
   private final Function<APPLICATION, AGENT> toAgent;
   private final Function<AGENT, APPLICATION> toApplication;
+  // set only while the bridges are being set up, before they are published
+  private boolean cacheApplicationValues;
 
   // TODO: maybe add a builder instead of all those constructors?
   ContextKeyBridge(
@@ -85,6 +87,23 @@ final class ContextKeyBridge<APPLICATION, AGENT> {
     this.toAgent = toAgent;
   }
 
+  /**
+   * Marks the values converted by this bridge as immutable, allowing {@link AgentContextWrapper} to
+   * cache them instead of converting the agent value on every access.
+   */
+  ContextKeyBridge<APPLICATION, AGENT> cacheApplicationValues() {
+    cacheApplicationValues = true;
+    return this;
+  }
+
+  boolean isCachingApplicationValues() {
+    return cacheApplicationValues;
+  }
+
+  boolean bridges(ContextKey<?> requestedKey) {
+    return requestedKey == applicationContextKey;
+  }
+
   @Nullable
   <V> V get(AgentContextWrapper contextWrapper, ContextKey<V> requestedKey) {
     if (requestedKey == applicationContextKey) {
@@ -26,7 +26,8 @@ final class InstrumentationApiContextBridging {
               "application.io.opentelemetry.instrumentation.api.instrumenter.LocalRootSpan",
               "io.opentelemetry.instrumentation.api.instrumenter.LocalRootSpan",
               Bridging::toApplication,
-              Bridging::toAgentOrNull));
+              Bridging::toAgentOrNull)
+              .cacheApplicationValues());
     } catch (Throwable e) {
       // no instrumentation-api on classpath
     }
@@ -41,7 +42,8 @@ final class InstrumentationApiContextBridging {
               "SERVER_KEY",
               "KEY",
               Bridging::toApplication,
-              Bridging::toAgentOrNull));
+              Bridging::toAgentOrNull)
+              .cacheApplicationValues());
     } catch (Throwable e) {
       // no old instrumentation-api on classpath
     }
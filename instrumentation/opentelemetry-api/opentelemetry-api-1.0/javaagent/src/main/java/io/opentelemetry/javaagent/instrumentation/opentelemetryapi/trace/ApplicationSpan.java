@@ -17,6 +17,8 @@ import javax.annotation.Nullable;
 public class ApplicationSpan implements Span {
 
   private final io.opentelemetry.api.trace.Span agentSpan;
+  // the span context of a span never changes, so it's converted only once
+  @Nullable private SpanContext applicationSpanContext;
 
   public ApplicationSpan(io.opentelemetry.api.trace.Span agentSpan) {
     this.agentSpan = agentSpan;
@@ -155,7 +157,12 @@ public class ApplicationSpan implements Span {
 
   @Override
   public SpanContext getSpanContext() {
-    return Bridging.toApplication(agentSpan.getSpanContext());
+    SpanContext spanContext = applicationSpanContext;
+    if (spanContext == null) {
+      spanContext = Bridging.toApplication(agentSpan.getSpanContext());
+      applicationSpanContext = spanContext;
+    }
+    return spanContext;
   }
 
   @Override
@@ -15,6 +15,7 @@ import application.io.opentelemetry.api.trace.SpanKind;
 import application.io.opentelemetry.api.trace.StatusCode;
 import application.io.opentelemetry.api.trace.TraceState;
 import application.io.opentelemetry.api.trace.TraceStateBuilder;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
@@ -38,6 +39,16 @@ public class Bridging {
 
   private static final Logger logger = Logger.getLogger(Bridging.class.getName());
 
+  private static final io.opentelemetry.api.trace.StatusCode[] AGENT_STATUS_CODES =
+      agentStatusCodes();
+
+  // keyed by name instead of by the application key, so that keys which the application creates
+  // on every call (e.g. by Span.setAttribute(String, String)) are found too; only agent keys and
+  // strings are retained, so this does not keep the application class loader alive
+  @SuppressWarnings("rawtypes")
+  private static final Cache<String, io.opentelemetry.api.common.AttributeKey> attributeKeys =
+      Cache.bounded(1024);
+
   public static Span toApplication(io.opentelemetry.api.trace.Span agentSpan) {
     if (!agentSpan.getSpanContext().isValid()) {
       // no need to wrap
@@ -64,17 +75,21 @@ public class Bridging {
   }
 
   private static TraceState toApplication(io.opentelemetry.api.trace.TraceState agentTraceState) {
+    if (agentTraceState.isEmpty()) {
+      return TraceState.getDefault();
+    }
     TraceStateBuilder applicationTraceState = TraceState.builder();
     agentTraceState.forEach(applicationTraceState::put);
     return applicationTraceState.build();
   }
 
   public static io.opentelemetry.api.trace.Span toAgentOrNull(Span applicationSpan) {
-    if (!applicationSpan.getSpanContext().isValid()) {
+    if (applicationSpan instanceof ApplicationSpan) {
+      // checked first, it's the most common case and avoids converting the span context
+      return ((ApplicationSpan) applicationSpan).getAgentSpan();
+    } else if (!applicationSpan.getSpanContext().isValid()) {
       // no need to wrap
       return io.opentelemetry.api.trace.Span.getInvalid();
-    } else if (applicationSpan instanceof ApplicationSpan) {
-      return ((ApplicationSpan) applicationSpan).getAgentSpan();
     } else {
       return null;
     }
@@ -107,6 +122,9 @@ public class Bridging {
 
   @SuppressWarnings({"unchecked", "rawtypes"})
   public static io.opentelemetry.api.common.Attributes toAgent(Attributes applicationAttributes) {
+    if (applicationAttributes.isEmpty()) {
+      return io.opentelemetry.api.common.Attributes.empty();
+    }
     io.opentelemetry.api.common.AttributesBuilder agentAttributes =
         io.opentelemetry.api.common.Attributes.builder();
     applicationAttributes.forEach(
@@ -119,10 +137,24 @@ public class Bridging {
     return agentAttributes.build();
   }
 
-  // TODO optimize this by storing shaded AttributeKey inside of application AttributeKey instead of
-  // creating every time
   @SuppressWarnings({"rawtypes"})
   public static io.opentelemetry.api.common.AttributeKey toAgent(AttributeKey applicationKey) {
+    String name = applicationKey.getKey();
+    io.opentelemetry.api.common.AttributeKey agentKey = attributeKeys.get(name);
+    // the same name may be used with different types
+    if (agentKey != null && agentKey.getType().ordinal() == applicationKey.getType().ordinal()) {
+      return agentKey;
+    }
+    agentKey = createAgentKey(applicationKey);
+    if (agentKey != null) {
+      attributeKeys.put(name, agentKey);
+    }
+    return agentKey;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  private static io.opentelemetry.api.common.AttributeKey createAgentKey(
+      AttributeKey applicationKey) {
     switch (applicationKey.getType()) {
       case STRING:
         return io.opentelemetry.api.common.AttributeKey.stringKey(applicationKey.getKey());
@@ -156,17 +188,31 @@ public class Bridging {
   }
 
   public static io.opentelemetry.api.trace.StatusCode toAgent(StatusCode applicationStatus) {
-    io.opentelemetry.api.trace.StatusCode agentCanonicalCode;
-    try {
-      agentCanonicalCode = io.opentelemetry.api.trace.StatusCode.valueOf(applicationStatus.name());
-    } catch (IllegalArgumentException e) {
-      logger.log(FINE, "unexpected status canonical code: {0}", applicationStatus.name());
-      return io.opentelemetry.api.trace.StatusCode.UNSET;
+    return AGENT_STATUS_CODES[applicationStatus.ordinal()];
+  }
+
+  private static io.opentelemetry.api.trace.StatusCode[] agentStatusCodes() {
+    StatusCode[] applicationStatusCodes = StatusCode.values();
+    io.opentelemetry.api.trace.StatusCode[] agentStatusCodes =
+        new io.opentelemetry.api.trace.StatusCode[applicationStatusCodes.length];
+    for (StatusCode applicationStatus : applicationStatusCodes) {
+      io.opentelemetry.api.trace.StatusCode agentCanonicalCode;
+      try {
+        agentCanonicalCode =
+            io.opentelemetry.api.trace.StatusCode.valueOf(applicationStatus.name());
+      } catch (IllegalArgumentException e) {
+        logger.log(FINE, "unexpected status canonical code: {0}", applicationStatus.name());
+        agentCanonicalCode = io.opentelemetry.api.trace.StatusCode.UNSET;
+      }
+      agentStatusCodes[applicationStatus.ordinal()] = agentCanonicalCode;
     }
-    return agentCanonicalCode;
+    return agentStatusCodes;
   }
 
   private static io.opentelemetry.api.trace.TraceState toAgent(TraceState applicationTraceState) {
+    if (applicationTraceState.isEmpty()) {
+      return io.opentelemetry.api.trace.TraceState.getDefault();
+    }
     io.opentelemetry.api.trace.TraceStateBuilder agentTraceState =
         io.opentelemetry.api.trace.TraceState.builder();
     applicationTraceState.forEach(agentTraceState::put);
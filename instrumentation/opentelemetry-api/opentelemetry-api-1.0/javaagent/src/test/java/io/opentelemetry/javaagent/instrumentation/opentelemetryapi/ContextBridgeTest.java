@@ -155,6 +155,96 @@ class ContextBridgeTest {
                             equalTo(stringKey("cat"), "yes"))));
   }
 
+  @Test
+  @DisplayName("bridged values stay consistent across with() and makeCurrent()")
+  void bridgedValuesStayConsistent() {
+    // Given
+    Runnable runnable =
+        new Runnable() {
+          @WithSpan("test")
+          @Override
+          public void run() {
+            // using @WithSpan above to make the agent generate a span, which is then read through
+            // contexts derived by the application
+            Context context = Context.current();
+            Span span = Span.fromContext(context);
+            assertThat(Span.fromContext(context).getSpanContext())
+                .isEqualTo(span.getSpanContext());
+
+            Context contextWithBaggage =
+                context.with(Baggage.builder().put("cat", "yes").build());
+            assertThat(Span.fromContext(contextWithBaggage).getSpanContext())
+                .isEqualTo(span.getSpanContext());
+            assertThat(Baggage.fromContext(contextWithBaggage).getEntryValue("cat"))
+                .isEqualTo("yes");
+            assertThat(Baggage.fromContext(context).isEmpty()).isTrue();
+
+            try (Scope ignored = contextWithBaggage.makeCurrent()) {
+              assertThat(Span.current().getSpanContext()).isEqualTo(span.getSpanContext());
+              assertThat(Baggage.current().getEntryValue("cat")).isEqualTo("yes");
+              Span.current().setAttribute("cat", "yes");
+            }
+
+            Span invalidSpan = Span.getInvalid();
+            Context contextWithoutSpan = context.with(invalidSpan);
+            assertThat(Span.fromContext(contextWithoutSpan).getSpanContext().isValid()).isFalse();
+            assertThat(Span.fromContext(context).getSpanContext())
+                .isEqualTo(span.getSpanContext());
+            assertThat(Baggage.current().isEmpty()).isTrue();
+          }
+        };
+
+    // When
+    runnable.run();
+
+    // Then
+    testing.waitAndAssertTraces(
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName("test")
+                        .hasNoParent()
+                        .hasAttributesSatisfyingExactly(
+                            equalTo(
+                                CodeIncubatingAttributes.CODE_NAMESPACE,
+                                runnable.getClass().getName()),
+                            equalTo(CodeIncubatingAttributes.CODE_FUNCTION, "run"),
+                            equalTo(stringKey("cat"), "yes"))));
+  }
+
+  @Test
+  @DisplayName("context made current by the application is reused")
+  void currentContextReused() {
+    Span span = GlobalOpenTelemetry.getTracer("test").spanBuilder("test").startSpan();
+    Context context = Context.current().with(span).with(ANIMAL, "cat");
+    try (Scope ignored = context.makeCurrent()) {
+      Context current = Context.current();
+      assertThat(Context.current()).isSameAs(current);
+      assertThat(Span.current()).isSameAs(Span.current());
+      assertThat(Span.current().getSpanContext()).isEqualTo(span.getSpanContext());
+      assertThat(Baggage.current()).isSameAs(Baggage.current());
+      assertThat(current.get(ANIMAL)).isEqualTo("cat");
+
+      // contexts derived by the agent are reused as well
+      Runnable runnable =
+          new Runnable() {
+            @WithSpan("child")
+            @Override
+            public void run() {
+              assertThat(Context.current()).isSameAs(Context.current());
+              assertThat(Span.current()).isSameAs(Span.current());
+              assertThat(Span.current().getSpanContext().getTraceId())
+                  .isEqualTo(span.getSpanContext().getTraceId());
+              assertThat(Context.current().get(ANIMAL)).isEqualTo("cat");
+            }
+          };
+      runnable.run();
+      assertThat(Span.current().getSpanContext()).isEqualTo(span.getSpanContext());
+    } finally {
+      span.end();
+    }
+  }
+
   @Test
   @DisplayName("agent propagates application's baggage")
   void agentPropagatesApplicationsBaggage() throws Exception {
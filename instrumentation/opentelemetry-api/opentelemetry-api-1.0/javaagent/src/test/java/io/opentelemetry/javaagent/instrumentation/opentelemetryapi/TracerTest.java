@@ -8,6 +8,7 @@ package io.opentelemetry.javaagent.instrumentation.opentelemetryapi;
 import static io.opentelemetry.api.common.AttributeKey.booleanKey;
 import static io.opentelemetry.api.common.AttributeKey.doubleKey;
 import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringArrayKey;
 import static io.opentelemetry.api.common.AttributeKey.stringKey;
 import static io.opentelemetry.api.trace.SpanKind.PRODUCER;
 import static io.opentelemetry.api.trace.StatusCode.ERROR;
@@ -29,6 +30,7 @@ import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.trace.data.StatusData;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Arrays;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -67,6 +69,48 @@ class TracerTest {
                             equalTo(booleanKey("boolean"), true))));
   }
 
+  @Test
+  @DisplayName("capture attributes with the same name and different types")
+  void captureAttributesWithSameNameAndDifferentTypes() {
+    // When
+    Tracer tracer = GlobalOpenTelemetry.getTracer("test");
+    Span stringSpan = tracer.spanBuilder("string").startSpan();
+    stringSpan.setAttribute(stringKey("value"), "1");
+    stringSpan.setAllAttributes(Attributes.of(stringKey("other"), "2"));
+    stringSpan.end();
+    Span longSpan = tracer.spanBuilder("long").startSpan();
+    longSpan.setAttribute(longKey("value"), 1L);
+    longSpan.setAllAttributes(Attributes.of(longKey("other"), 2L));
+    longSpan.end();
+    Span arraySpan = tracer.spanBuilder("array").startSpan();
+    arraySpan.setAttribute(stringArrayKey("value"), Arrays.asList("1", "2"));
+    arraySpan.setAttribute(stringKey("other"), "2");
+    arraySpan.end();
+
+    // Then
+    testing.waitAndAssertSortedTraces(
+        orderByRootSpanName("string", "long", "array"),
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName("string")
+                        .hasAttributesSatisfyingExactly(
+                            equalTo(stringKey("value"), "1"), equalTo(stringKey("other"), "2"))),
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName("long")
+                        .hasAttributesSatisfyingExactly(
+                            equalTo(longKey("value"), 1L), equalTo(longKey("other"), 2L))),
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName("array")
+                        .hasAttributesSatisfyingExactly(
+                            equalTo(stringArrayKey("value"), Arrays.asList("1", "2")),
+                            equalTo(stringKey("other"), "2"))));
+  }
+
   @Test
   @DisplayName("capture span with implicit parent using Tracer.withSpan()")
   void captureSpanWithImplicitParentUsingTracerWithSpan() {
@@ -49,5 +49,19 @@ public final class SpanKeyBridging {
     return agentSpanKeys.get(applicationSpanKey);
   }
 
+  @Nullable
+  public static io.opentelemetry.instrumentation.api.internal.SpanKey[] toAgentOrNull(
+      SpanKey[] applicationSpanKeys) {
+    io.opentelemetry.instrumentation.api.internal.SpanKey[] agentSpanKeys =
+        new io.opentelemetry.instrumentation.api.internal.SpanKey[applicationSpanKeys.length];
+    for (int i = 0; i < applicationSpanKeys.length; i++) {
+      agentSpanKeys[i] = toAgentOrNull(applicationSpanKeys[i]);
+      if (agentSpanKeys[i] == null) {
+        return null;
+      }
+    }
+    return agentSpanKeys;
+  }
+
   private SpanKeyBridging() {}
 }
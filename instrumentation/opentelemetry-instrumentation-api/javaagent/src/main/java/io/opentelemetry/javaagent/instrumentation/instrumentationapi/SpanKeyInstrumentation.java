@@ -5,8 +5,10 @@
 
 package io.opentelemetry.javaagent.instrumentation.instrumentationapi;
 
+import static net.bytebuddy.matcher.ElementMatchers.isStatic;
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
 import application.io.opentelemetry.api.trace.Span;
 import application.io.opentelemetry.context.Context;
@@ -37,6 +39,20 @@ final class SpanKeyInstrumentation implements TypeInstrumentation {
         named("fromContextOrNull")
             .and(takesArgument(0, named("application.io.opentelemetry.context.Context"))),
         this.getClass().getName() + "$FromContextOrNullAdvice");
+    // storing and checking several span keys at once, added in later instrumentation-api versions
+    transformer.applyAdviceToMethod(
+        named("storeInContext")
+            .and(isStatic())
+            .and(takesArguments(3))
+            .and(takesArgument(0, named("application.io.opentelemetry.context.Context")))
+            .and(takesArgument(2, named("application.io.opentelemetry.api.trace.Span"))),
+        this.getClass().getName() + "$StoreAllInContextAdvice");
+    transformer.applyAdviceToMethod(
+        named("allStoredInContext")
+            .and(isStatic())
+            .and(takesArguments(2))
+            .and(takesArgument(0, named("application.io.opentelemetry.context.Context"))),
+        this.getClass().getName() + "$AllStoredInContextAdvice");
   }
 
   @SuppressWarnings("unused")
@@ -115,4 +131,77 @@ final class SpanKeyInstrumentation implements TypeInstrumentation {
       }
     }
   }
+
+  @SuppressWarnings("unused")
+  public static class StoreAllInContextAdvice {
+    @Advice.OnMethodEnter(skipOn = Advice.OnNonDefaultValue.class)
+    public static Context onEnter(
+        @Advice.Argument(0) Context applicationContext,
+        @Advice.Argument(1) SpanKey[] applicationSpanKeys,
+        @Advice.Argument(2) Span applicationSpan) {
+
+      io.opentelemetry.instrumentation.api.internal.SpanKey[] agentSpanKeys =
+          SpanKeyBridging.toAgentOrNull(applicationSpanKeys);
+      if (agentSpanKeys == null) {
+        return null;
+      }
+
+      io.opentelemetry.context.Context agentContext =
+          AgentContextStorage.getAgentContext(applicationContext);
+
+      io.opentelemetry.api.trace.Span agentSpan = Bridging.toAgentOrNull(applicationSpan);
+      if (agentSpan == null) {
+        // same as in StoreInContextAdvice, let the original method store the unbridged span
+        return null;
+      }
+
+      io.opentelemetry.context.Context newAgentContext =
+          io.opentelemetry.instrumentation.api.internal.SpanKey.storeInContext(
+              agentContext, agentSpanKeys, agentSpan);
+
+      return AgentContextStorage.toApplicationContext(newAgentContext);
+    }
+
+    @Advice.OnMethodExit(suppress = Throwable.class)
+    public static void onExit(
+        @Advice.Enter Context newApplicationContext,
+        @Advice.Return(readOnly = false) Context result) {
+
+      if (newApplicationContext != null) {
+        result = newApplicationContext;
+      }
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class AllStoredInContextAdvice {
+    @Advice.OnMethodEnter(skipOn = Advice.OnNonDefaultValue.class)
+    public static boolean onEnter(
+        @Advice.Argument(0) Context applicationContext,
+        @Advice.Argument(1) SpanKey[] applicationSpanKeys) {
+
+      io.opentelemetry.instrumentation.api.internal.SpanKey[] agentSpanKeys =
+          SpanKeyBridging.toAgentOrNull(applicationSpanKeys);
+      if (agentSpanKeys == null) {
+        return false;
+      }
+
+      io.opentelemetry.context.Context agentContext =
+          AgentContextStorage.getAgentContext(applicationContext);
+
+      // when not all spans were found, run the original method, there could be unbridged spans
+      // stored in the application context
+      return io.opentelemetry.instrumentation.api.internal.SpanKey.allStoredInContext(
+          agentContext, agentSpanKeys);
+    }
+
+    @Advice.OnMethodExit(suppress = Throwable.class)
+    public static void onExit(
+        @Advice.Enter boolean allStored, @Advice.Return(readOnly = false) boolean result) {
+
+      if (allStored) {
+        result = true;
+      }
+    }
+  }
 }
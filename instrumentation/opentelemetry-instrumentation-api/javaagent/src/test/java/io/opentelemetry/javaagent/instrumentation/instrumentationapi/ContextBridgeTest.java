@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.api.instrumenter.LocalRootSpan;
 import io.opentelemetry.instrumentation.api.internal.SpanKey;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpServerRoute;
@@ -71,6 +72,10 @@ class ContextBridgeTest {
 
           spanKeys.forEach(spanKey -> assertNotNull(spanKey.fromContextOrNull(Context.current())));
 
+          assertThat(
+                  SpanKey.allStoredInContext(Context.current(), spanKeys.toArray(new SpanKey[0])))
+              .isTrue();
+
           testing.runWithSpan(
               "internal",
               () ->
@@ -79,6 +84,32 @@ class ContextBridgeTest {
         });
   }
 
+  @Test
+  void testSpanKeyBridge_MultipleKeys() {
+    testing.runWithSpan(
+        "parent",
+        () -> {
+          Span span = Span.current();
+          SpanKey[] spanKeys = {SpanKey.KIND_CLIENT, SpanKey.HTTP_CLIENT};
+          assertThat(SpanKey.allStoredInContext(Context.current(), spanKeys)).isFalse();
+
+          Context context = SpanKey.storeInContext(Context.current(), spanKeys, span);
+          assertThat(SpanKey.allStoredInContext(context, spanKeys)).isTrue();
+          assertThat(SpanKey.allStoredInContext(context, new SpanKey[] {SpanKey.DB_CLIENT}))
+              .isFalse();
+          for (SpanKey spanKey : spanKeys) {
+            Span stored = spanKey.fromContextOrNull(context);
+            assertNotNull(stored);
+            assertThat(stored.getSpanContext()).isEqualTo(span.getSpanContext());
+          }
+
+          // the span keys are still found after the context went through the agent
+          try (Scope ignored = context.makeCurrent()) {
+            assertThat(SpanKey.allStoredInContext(Context.current(), spanKeys)).isTrue();
+          }
+        });
+  }
+
   @Test
   void testSpanKeyBridge_UnbridgedSpan() {
     OpenTelemetrySdk openTelemetry = OpenTelemetrySdk.builder().build();
@@ -9,6 +9,7 @@ import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.instrumentation.oshi.ProcessMetrics;
 import io.opentelemetry.instrumentation.oshi.SystemMetrics;
 import io.opentelemetry.javaagent.bootstrap.internal.AgentInstrumentationConfig;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -19,13 +20,18 @@ public final class MetricsRegistration {
 
   public static void register() {
     if (registered.compareAndSet(false, true)) {
+      Duration snapshotMaxAge =
+          AgentInstrumentationConfig.get()
+              .getDuration("otel.instrumentation.oshi.snapshot-max-age", Duration.ofMillis(500));
       List<AutoCloseable> observables = new ArrayList<>();
-      observables.addAll(SystemMetrics.registerObservers(GlobalOpenTelemetry.get()));
+      observables.addAll(
+          SystemMetrics.registerObservers(GlobalOpenTelemetry.get(), snapshotMaxAge));
 
       // ProcessMetrics don't follow the spec
       if (AgentInstrumentationConfig.get()
           .getBoolean("otel.instrumentation.oshi.experimental-metrics.enabled", false)) {
-        observables.addAll(ProcessMetrics.registerObservers(GlobalOpenTelemetry.get()));
+        observables.addAll(
+            ProcessMetrics.registerObservers(GlobalOpenTelemetry.get(), snapshotMaxAge));
       }
       Thread cleanupTelemetry = new Thread(() -> MetricsRegistration.closeObservables(observables));
       Runtime.getRuntime().addShutdownHook(cleanupTelemetry);
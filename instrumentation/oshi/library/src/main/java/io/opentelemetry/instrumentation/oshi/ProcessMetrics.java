@@ -9,6 +9,7 @@ import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.Meter;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import oshi.SystemInfo;
@@ -23,10 +24,30 @@ public class ProcessMetrics {
 
   /** Register observers for java runtime metrics. */
   public static List<AutoCloseable> registerObservers(OpenTelemetry openTelemetry) {
+    return registerObservers(openTelemetry, Snapshot.DEFAULT_MAX_AGE);
+  }
+
+  /**
+   * Register observers for java runtime metrics.
+   *
+   * @param snapshotMaxAge the process information read from OSHI is shared by all the metrics, and
+   *     only read again if it is older than this
+   */
+  public static List<AutoCloseable> registerObservers(
+      OpenTelemetry openTelemetry, Duration snapshotMaxAge) {
     Meter meter = openTelemetry.getMeterProvider().get("io.opentelemetry.oshi");
     SystemInfo systemInfo = new SystemInfo();
     OperatingSystem osInfo = systemInfo.getOperatingSystem();
-    OSProcess processInfo = osInfo.getProcess(osInfo.getProcessId());
+    OSProcess process = osInfo.getProcess(osInfo.getProcessId());
+    // the values are copied from the OSProcess, which is updated in place when it is read again,
+    // while other callbacks may still be reading it
+    Snapshot<ProcessUsage> processSnapshot =
+        new Snapshot<>(
+            () -> {
+              process.updateAttributes();
+              return new ProcessUsage(process);
+            },
+            snapshotMaxAge);
     List<AutoCloseable> observables = new ArrayList<>();
     observables.add(
         meter
@@ -35,9 +56,9 @@ public class ProcessMetrics {
             .setUnit("By")
             .buildWithCallback(
                 r -> {
-                  processInfo.updateAttributes();
-                  r.record(processInfo.getResidentSetSize(), Attributes.of(TYPE_KEY, "rss"));
-                  r.record(processInfo.getVirtualSize(), Attributes.of(TYPE_KEY, "vms"));
+                  ProcessUsage processInfo = processSnapshot.get();
+                  r.record(processInfo.residentSetSize, Attributes.of(TYPE_KEY, "rss"));
+                  r.record(processInfo.virtualSize, Attributes.of(TYPE_KEY, "vms"));
                 }));
 
     observables.add(
@@ -48,10 +69,24 @@ public class ProcessMetrics {
             .ofLongs()
             .buildWithCallback(
                 r -> {
-                  processInfo.updateAttributes();
-                  r.record(processInfo.getUserTime(), Attributes.of(TYPE_KEY, "user"));
-                  r.record(processInfo.getKernelTime(), Attributes.of(TYPE_KEY, "system"));
+                  ProcessUsage processInfo = processSnapshot.get();
+                  r.record(processInfo.userTime, Attributes.of(TYPE_KEY, "user"));
+                  r.record(processInfo.kernelTime, Attributes.of(TYPE_KEY, "system"));
                 }));
     return observables;
   }
+
+  private static final class ProcessUsage {
+    final long residentSetSize;
+    final long virtualSize;
+    final long userTime;
+    final long kernelTime;
+
+    ProcessUsage(OSProcess process) {
+      this.residentSetSize = process.getResidentSetSize();
+      this.virtualSize = process.getVirtualSize();
+      this.userTime = process.getUserTime();
+      this.kernelTime = process.getKernelTime();
+    }
+  }
 }
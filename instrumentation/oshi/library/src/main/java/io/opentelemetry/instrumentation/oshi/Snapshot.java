@@ -0,0 +1,43 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.oshi;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * Data read from OSHI that is shared by all the callbacks reporting metrics from it, so that it is
+ * read only once per metric collection instead of once per callback. The data is read again when a
+ * callback asks for it and it is older than the max age.
+ */
+final class Snapshot<T> {
+
+  static final Duration DEFAULT_MAX_AGE = Duration.ofMillis(500);
+
+  private final Supplier<T> reader;
+  private final long maxAgeNanos;
+
+  // guarded by this
+  @Nullable private T value;
+  private long readNanos;
+
+  Snapshot(Supplier<T> reader, Duration maxAge) {
+    this.reader = reader;
+    this.maxAgeNanos = maxAge.toNanos();
+  }
+
+  synchronized T get() {
+    long now = System.nanoTime();
+    T result = value;
+    if (result == null || now - readNanos >= maxAgeNanos) {
+      result = reader.get();
+      value = result;
+      readNanos = now;
+    }
+    return result;
+  }
+}
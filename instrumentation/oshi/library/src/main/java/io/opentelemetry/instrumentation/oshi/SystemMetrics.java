@@ -9,6 +9,7 @@ import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.Meter;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import oshi.SystemInfo;
@@ -31,9 +32,45 @@ public class SystemMetrics {
 
   /** Register observers for system metrics. */
   public static List<AutoCloseable> registerObservers(OpenTelemetry openTelemetry) {
+    return registerObservers(openTelemetry, Snapshot.DEFAULT_MAX_AGE);
+  }
+
+  /**
+   * Register observers for system metrics.
+   *
+   * @param snapshotMaxAge the memory, network interface and disk information read from OSHI is
+   *     shared by all the metrics, and only read again if it is older than this
+   */
+  public static List<AutoCloseable> registerObservers(
+      OpenTelemetry openTelemetry, Duration snapshotMaxAge) {
     Meter meter = openTelemetry.getMeterProvider().get("io.opentelemetry.oshi");
     SystemInfo systemInfo = new SystemInfo();
     HardwareAbstractionLayer hal = systemInfo.getHardware();
+    Snapshot<MemoryUsage> memorySnapshot =
+        new Snapshot<>(() -> new MemoryUsage(hal.getMemory()), snapshotMaxAge);
+    // the values are copied from the OSHI objects, which are updated in place when they are read
+    // again, while other callbacks may still be reading them
+    Snapshot<List<NetworkUsage>> networkSnapshot =
+        new Snapshot<>(
+            () -> {
+              List<NetworkUsage> networkUsages = new ArrayList<>();
+              for (NetworkIF networkIf : hal.getNetworkIFs()) {
+                networkIf.updateAttributes();
+                networkUsages.add(new NetworkUsage(networkIf));
+              }
+              return networkUsages;
+            },
+            snapshotMaxAge);
+    Snapshot<List<DiskUsage>> diskSnapshot =
+        new Snapshot<>(
+            () -> {
+              List<DiskUsage> diskUsages = new ArrayList<>();
+              for (HWDiskStore diskStore : hal.getDiskStores()) {
+                diskUsages.add(new DiskUsage(diskStore));
+              }
+              return diskUsages;
+            },
+            snapshotMaxAge);
     List<AutoCloseable> observables = new ArrayList<>();
 
     observables.add(
@@ -43,9 +80,9 @@ public class SystemMetrics {
             .setUnit("By")
             .buildWithCallback(
                 r -> {
-                  GlobalMemory mem = hal.getMemory();
-                  r.record(mem.getTotal() - mem.getAvailable(), ATTRIBUTES_USED);
-                  r.record(mem.getAvailable(), ATTRIBUTES_FREE);
+                  MemoryUsage mem = memorySnapshot.get();
+                  r.record(mem.total - mem.available, ATTRIBUTES_USED);
+                  r.record(mem.available, ATTRIBUTES_FREE);
                 }));
 
     observables.add(
@@ -55,11 +92,9 @@ public class SystemMetrics {
             .setUnit("1")
             .buildWithCallback(
                 r -> {
-                  GlobalMemory mem = hal.getMemory();
-                  r.record(
-                      ((double) (mem.getTotal() - mem.getAvailable())) / mem.getTotal(),
-                      ATTRIBUTES_USED);
-                  r.record(((double) mem.getAvailable()) / mem.getTotal(), ATTRIBUTES_FREE);
+                  MemoryUsage mem = memorySnapshot.get();
+                  r.record(((double) (mem.total - mem.available)) / mem.total, ATTRIBUTES_USED);
+                  r.record(((double) mem.available) / mem.total, ATTRIBUTES_FREE);
                 }));
 
     observables.add(
@@ -69,11 +104,10 @@ public class SystemMetrics {
             .setUnit("By")
             .buildWithCallback(
                 r -> {
-                  for (NetworkIF networkIf : hal.getNetworkIFs()) {
-                    networkIf.updateAttributes();
-                    long recv = networkIf.getBytesRecv();
-                    long sent = networkIf.getBytesSent();
-                    String device = networkIf.getName();
+                  for (NetworkUsage network : networkSnapshot.get()) {
+                    long recv = network.bytesRecv;
+                    long sent = network.bytesSent;
+                    String device = network.name;
                     r.record(recv, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "receive"));
                     r.record(sent, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "transmit"));
                   }
@@ -86,11 +120,10 @@ public class SystemMetrics {
             .setUnit("{packets}")
             .buildWithCallback(
                 r -> {
-                  for (NetworkIF networkIf : hal.getNetworkIFs()) {
-                    networkIf.updateAttributes();
-                    long recv = networkIf.getPacketsRecv();
-                    long sent = networkIf.getPacketsSent();
-                    String device = networkIf.getName();
+                  for (NetworkUsage network : networkSnapshot.get()) {
+                    long recv = network.packetsRecv;
+                    long sent = network.packetsSent;
+                    String device = network.name;
                     r.record(recv, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "receive"));
                     r.record(sent, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "transmit"));
                   }
@@ -103,11 +136,10 @@ public class SystemMetrics {
             .setUnit("{errors}")
             .buildWithCallback(
                 r -> {
-                  for (NetworkIF networkIf : hal.getNetworkIFs()) {
-                    networkIf.updateAttributes();
-                    long recv = networkIf.getInErrors();
-                    long sent = networkIf.getOutErrors();
-                    String device = networkIf.getName();
+                  for (NetworkUsage network : networkSnapshot.get()) {
+                    long recv = network.inErrors;
+                    long sent = network.outErrors;
+                    String device = network.name;
                     r.record(recv, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "receive"));
                     r.record(sent, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "transmit"));
                   }
@@ -120,10 +152,10 @@ public class SystemMetrics {
             .setUnit("By")
             .buildWithCallback(
                 r -> {
-                  for (HWDiskStore diskStore : hal.getDiskStores()) {
-                    long read = diskStore.getReadBytes();
-                    long write = diskStore.getWriteBytes();
-                    String device = diskStore.getName();
+                  for (DiskUsage disk : diskSnapshot.get()) {
+                    long read = disk.readBytes;
+                    long write = disk.writeBytes;
+                    String device = disk.name;
                     r.record(read, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "read"));
                     r.record(write, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "write"));
                   }
@@ -136,10 +168,10 @@ public class SystemMetrics {
             .setUnit("{operations}")
             .buildWithCallback(
                 r -> {
-                  for (HWDiskStore diskStore : hal.getDiskStores()) {
-                    long read = diskStore.getReads();
-                    long write = diskStore.getWrites();
-                    String device = diskStore.getName();
+                  for (DiskUsage disk : diskSnapshot.get()) {
+                    long read = disk.reads;
+                    long write = disk.writes;
+                    String device = disk.name;
                     r.record(read, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "read"));
                     r.record(write, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "write"));
                   }
@@ -147,4 +179,50 @@ public class SystemMetrics {
 
     return observables;
   }
+
+  private static final class MemoryUsage {
+    final long total;
+    final long available;
+
+    MemoryUsage(GlobalMemory memory) {
+      this.total = memory.getTotal();
+      this.available = memory.getAvailable();
+    }
+  }
+
+  private static final class NetworkUsage {
+    final String name;
+    final long bytesRecv;
+    final long bytesSent;
+    final long packetsRecv;
+    final long packetsSent;
+    final long inErrors;
+    final long outErrors;
+
+    NetworkUsage(NetworkIF networkIf) {
+      this.name = networkIf.getName();
+      this.bytesRecv = networkIf.getBytesRecv();
+      this.bytesSent = networkIf.getBytesSent();
+      this.packetsRecv = networkIf.getPacketsRecv();
+      this.packetsSent = networkIf.getPacketsSent();
+      this.inErrors = networkIf.getInErrors();
+      this.outErrors = networkIf.getOutErrors();
+    }
+  }
+
+  private static final class DiskUsage {
+    final String name;
+    final long readBytes;
+    final long writeBytes;
+    final long reads;
+    final long writes;
+
+    DiskUsage(HWDiskStore diskStore) {
+      this.name = diskStore.getName();
+      this.readBytes = diskStore.getReadBytes();
+      this.writeBytes = diskStore.getWriteBytes();
+      this.reads = diskStore.getReads();
+      this.writes = diskStore.getWrites();
+    }
+  }
 }
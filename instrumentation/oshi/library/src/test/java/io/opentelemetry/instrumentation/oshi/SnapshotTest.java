@@ -0,0 +1,35 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.oshi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SnapshotTest {
+
+  private final AtomicInteger reads = new AtomicInteger();
+
+  @Test
+  void reusesDataYoungerThanMaxAge() {
+    Snapshot<Integer> snapshot = new Snapshot<>(reads::incrementAndGet, Duration.ofHours(1));
+
+    assertThat(snapshot.get()).isEqualTo(1);
+    assertThat(snapshot.get()).isEqualTo(1);
+    assertThat(reads).hasValue(1);
+  }
+
+  @Test
+  void readsDataOlderThanMaxAgeAgain() {
+    Snapshot<Integer> snapshot = new Snapshot<>(reads::incrementAndGet, Duration.ZERO);
+
+    assertThat(snapshot.get()).isEqualTo(1);
+    assertThat(snapshot.get()).isEqualTo(2);
+    assertThat(reads).hasValue(2);
+  }
+}
@@ -7,10 +7,12 @@ package io.opentelemetry.instrumentation.resources;
 
 import static io.opentelemetry.instrumentation.resources.HostIdResource.HOST_ID;
 
+import io.opentelemetry.instrumentation.resources.internal.ParallelResourceDetection;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import io.opentelemetry.sdk.autoconfigure.spi.ResourceProvider;
 import io.opentelemetry.sdk.autoconfigure.spi.internal.ConditionalResourceProvider;
 import io.opentelemetry.sdk.resources.Resource;
+import java.util.function.Supplier;
 
 /**
  * {@link ResourceProvider} for automatically configuring <code>host.id</code> according to <a
@@ -19,9 +21,12 @@ import io.opentelemetry.sdk.resources.Resource;
  */
 public final class HostIdResourceProvider implements ConditionalResourceProvider {
 
+  private final Supplier<Resource> resource =
+      ParallelResourceDetection.start(HostResource::get, Resource.empty());
+
   @Override
   public Resource createResource(ConfigProperties config) {
-    return HostResource.get();
+    return resource.get();
   }
 
   @Override
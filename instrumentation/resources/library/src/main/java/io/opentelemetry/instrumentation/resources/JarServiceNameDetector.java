@@ -9,6 +9,7 @@ import static java.util.logging.Level.FINE;
 
 import com.google.auto.service.AutoService;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.instrumentation.resources.internal.ParallelResourceDetection;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import io.opentelemetry.sdk.autoconfigure.spi.ResourceProvider;
 import io.opentelemetry.sdk.autoconfigure.spi.internal.ConditionalResourceProvider;
@@ -32,7 +33,7 @@ public final class JarServiceNameDetector implements ConditionalResourceProvider
 
   @SuppressWarnings("unused") // SPI
   public JarServiceNameDetector() {
-    this(MainJarPathHolder::getJarPath);
+    this(ParallelResourceDetection.start(MainJarPathHolder::getJarPath, Optional.empty()));
   }
 
   private JarServiceNameDetector(Supplier<Optional<Path>> jarPathSupplier) {
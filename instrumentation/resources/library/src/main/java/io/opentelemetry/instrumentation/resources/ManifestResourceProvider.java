@@ -8,6 +8,7 @@ package io.opentelemetry.instrumentation.resources;
 import static java.util.logging.Level.WARNING;
 
 import com.google.auto.service.AutoService;
+import io.opentelemetry.instrumentation.resources.internal.ParallelResourceDetection;
 import io.opentelemetry.sdk.autoconfigure.spi.ResourceProvider;
 import io.opentelemetry.semconv.ServiceAttributes;
 import java.io.IOException;
@@ -30,16 +31,18 @@ public final class ManifestResourceProvider extends AttributeResourceProvider<Ma
 
   @SuppressWarnings("unused") // SPI
   public ManifestResourceProvider() {
-    this(MainJarPathHolder::getJarPath, ManifestResourceProvider::readManifest);
+    this(
+        ParallelResourceDetection.start(
+            () -> MainJarPathHolder.getJarPath().flatMap(ManifestResourceProvider::readManifest),
+            Optional.empty()));
   }
 
-  private ManifestResourceProvider(
-      Supplier<Optional<Path>> jarPathSupplier, Function<Path, Optional<Manifest>> manifestReader) {
+  private ManifestResourceProvider(Supplier<Optional<Manifest>> manifestSupplier) {
     super(
         new AttributeProvider<Manifest>() {
           @Override
           public Optional<Manifest> readData() {
-            return jarPathSupplier.get().flatMap(manifestReader);
+            return manifestSupplier.get();
           }
 
           @Override
@@ -66,7 +69,7 @@ public final class ManifestResourceProvider extends AttributeResourceProvider<Ma
   // Visible for testing
   ManifestResourceProvider(
       MainJarPathFinder jarPathFinder, Function<Path, Optional<Manifest>> manifestReader) {
-    this(() -> Optional.ofNullable(jarPathFinder.detectJarPath()), manifestReader);
+    this(() -> Optional.ofNullable(jarPathFinder.detectJarPath()).flatMap(manifestReader));
   }
 
   private static Optional<Manifest> readManifest(Path jarPath) {
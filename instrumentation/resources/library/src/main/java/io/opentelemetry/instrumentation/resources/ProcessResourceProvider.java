@@ -6,15 +6,20 @@
 package io.opentelemetry.instrumentation.resources;
 
 import com.google.auto.service.AutoService;
+import io.opentelemetry.instrumentation.resources.internal.ParallelResourceDetection;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import io.opentelemetry.sdk.autoconfigure.spi.ResourceProvider;
 import io.opentelemetry.sdk.resources.Resource;
+import java.util.function.Supplier;
 
 /** {@link ResourceProvider} for automatically configuring {@link ProcessResource}. */
 @AutoService(ResourceProvider.class)
 public final class ProcessResourceProvider implements ResourceProvider {
+  private final Supplier<Resource> resource =
+      ParallelResourceDetection.start(ProcessResource::get, Resource.empty());
+
   @Override
   public Resource createResource(ConfigProperties config) {
-    return ProcessResource.get();
+    return resource.get();
   }
 }
@@ -8,6 +8,7 @@ package io.opentelemetry.instrumentation.resources.internal;
 import com.google.auto.service.AutoService;
 import io.opentelemetry.instrumentation.resources.ContainerResource;
 import io.opentelemetry.sdk.autoconfigure.spi.internal.ComponentProvider;
+import io.opentelemetry.sdk.resources.Resource;
 
 /**
  * Declarative config container resource provider.
@@ -19,6 +20,6 @@ import io.opentelemetry.sdk.autoconfigure.spi.internal.ComponentProvider;
 @AutoService(ComponentProvider.class)
 public class ContainerResourceComponentProvider extends ResourceComponentProvider {
   public ContainerResourceComponentProvider() {
-    super(ContainerResource::get);
+    super(ParallelResourceDetection.start(ContainerResource::get, Resource.empty()));
   }
 }
@@ -9,6 +9,7 @@ import com.google.auto.service.AutoService;
 import io.opentelemetry.instrumentation.resources.HostIdResource;
 import io.opentelemetry.sdk.autoconfigure.spi.Ordered;
 import io.opentelemetry.sdk.autoconfigure.spi.internal.ComponentProvider;
+import io.opentelemetry.sdk.resources.Resource;
 
 /**
  * Declarative config host id resource provider.
@@ -20,7 +21,7 @@ import io.opentelemetry.sdk.autoconfigure.spi.internal.ComponentProvider;
 @AutoService(ComponentProvider.class)
 public class HostIdResourceComponentProvider extends ResourceComponentProvider implements Ordered {
   public HostIdResourceComponentProvider() {
-    super(HostIdResource::get);
+    super(ParallelResourceDetection.start(HostIdResource::get, Resource.empty()));
   }
 
   @Override
@@ -0,0 +1,156 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.resources.internal;
+
+import static java.util.logging.Level.WARNING;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Starts the resource detections which read files or spawn processes as soon as their providers
+ * are loaded, so that they run concurrently with each other and with the other resource providers,
+ * instead of one after the other when the SDK asks each provider for its resource.
+ *
+ * <p>Resource providers are loaded before the configuration is available, so parallel detection is
+ * enabled with the {@code otel.java.experimental.resource.parallel-detection.enabled} system
+ * property or the {@code OTEL_JAVA_EXPERIMENTAL_RESOURCE_PARALLEL_DETECTION_ENABLED} environment
+ * variable, and detection also runs for providers that are disabled in the configuration.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ParallelResourceDetection {
+
+  private static final Logger logger = Logger.getLogger(ParallelResourceDetection.class.getName());
+
+  private static final String ENABLED_PROPERTY =
+      "otel.java.experimental.resource.parallel-detection.enabled";
+
+  private static final boolean ENABLED = Boolean.parseBoolean(getConfig(ENABLED_PROPERTY));
+  // shared by the detections started together, so that a slow environment delays building a
+  // resource by 5 seconds at most
+  private static final DeadlineBatches DEADLINES =
+      new DeadlineBatches(TimeUnit.SECONDS.toNanos(5));
+
+  private static final Executor DAEMON_THREAD_PER_TASK =
+      runnable -> {
+        Thread thread = new Thread(runnable, "otel-resource-detection");
+        thread.setDaemon(true);
+        thread.start();
+      };
+
+  /**
+   * Starts the detection in the background if parallel detection is enabled.
+   *
+   * @param detection the detection, returning the same value every time it is called
+   * @param fallback the value to return if the detection fails or times out
+   * @return the detection if parallel detection is disabled, otherwise a {@link Supplier} waiting
+   *     for the result of the detection started in the background
+   */
+  public static <T> Supplier<T> start(Supplier<T> detection, T fallback) {
+    return start(detection, fallback, ENABLED, DEADLINES);
+  }
+
+  // Visible for testing
+  static <T> Supplier<T> start(
+      Supplier<T> detection, T fallback, boolean enabled, DeadlineBatches deadlines) {
+    if (!enabled) {
+      return detection;
+    }
+    Deadline deadline = deadlines.current();
+    CompletableFuture<T> result = CompletableFuture.supplyAsync(detection, DAEMON_THREAD_PER_TASK);
+    return () -> {
+      try {
+        return result.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return fallback;
+      } catch (ExecutionException e) {
+        logger.log(WARNING, "Resource detection failed", e.getCause());
+        return fallback;
+      } catch (TimeoutException e) {
+        logger.log(WARNING, "Resource detection timed out, its resource attributes are left out");
+        return fallback;
+      }
+    };
+  }
+
+  @Nullable
+  private static String getConfig(String propertyName) {
+    try {
+      String value = System.getProperty(propertyName);
+      if (value != null) {
+        return value;
+      }
+      return System.getenv(propertyName.replaceAll("[.-]", "_").toUpperCase(Locale.ROOT));
+    } catch (SecurityException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Hands out the deadline of the detections started together, i.e. by the providers loaded for
+   * building one resource. Detections started once the results of a batch are asked for belong to
+   * a new batch with its own deadline, e.g. those of a second SDK built by the application, so that
+   * they are not given up on because of a deadline that expired before they were started.
+   */
+  static final class DeadlineBatches {
+    private final long timeoutNanos;
+    // guarded by this
+    @Nullable private Deadline current;
+
+    DeadlineBatches(long timeoutNanos) {
+      this.timeoutNanos = timeoutNanos;
+    }
+
+    synchronized Deadline current() {
+      if (current == null || current.isStarted()) {
+        current = new Deadline(timeoutNanos);
+      }
+      return current;
+    }
+  }
+
+  /**
+   * The time until which the results of the detections are waited for. It starts when the first
+   * result is asked for, i.e. when the SDK gets to the first of the providers, and not when the
+   * detections are started, because until then the detections do not delay anything.
+   */
+  static final class Deadline {
+    private final long timeoutNanos;
+    // guarded by this
+    private boolean started;
+    // guarded by this
+    private long deadlineNanos;
+
+    Deadline(long timeoutNanos) {
+      this.timeoutNanos = timeoutNanos;
+    }
+
+    synchronized boolean isStarted() {
+      return started;
+    }
+
+    synchronized long remainingNanos() {
+      long now = System.nanoTime();
+      if (!started) {
+        started = true;
+        deadlineNanos = now + timeoutNanos;
+      }
+      return Math.max(0, deadlineNanos - now);
+    }
+  }
+
+  private ParallelResourceDetection() {}
+}
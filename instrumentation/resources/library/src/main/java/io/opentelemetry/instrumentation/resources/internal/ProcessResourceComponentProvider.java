@@ -8,6 +8,7 @@ package io.opentelemetry.instrumentation.resources.internal;
 import com.google.auto.service.AutoService;
 import io.opentelemetry.instrumentation.resources.ProcessResource;
 import io.opentelemetry.sdk.autoconfigure.spi.internal.ComponentProvider;
+import io.opentelemetry.sdk.resources.Resource;
 
 /**
  * Declarative config process resource provider.
@@ -19,6 +20,6 @@ import io.opentelemetry.sdk.autoconfigure.spi.internal.ComponentProvider;
 @AutoService(ComponentProvider.class)
 public class ProcessResourceComponentProvider extends ResourceComponentProvider {
   public ProcessResourceComponentProvider() {
-    super(ProcessResource::get);
+    super(ParallelResourceDetection.start(ProcessResource::get, Resource.empty()));
   }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.resources.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class ParallelResourceDetectionTest {
+
+  @Test
+  void disabled() {
+    AtomicInteger calls = new AtomicInteger();
+    Supplier<String> detection =
+        () -> {
+          calls.incrementAndGet();
+          return "detected";
+        };
+
+    Supplier<String> result =
+        ParallelResourceDetection.start(detection, "fallback", false, newDeadlines(5000));
+
+    // detection runs when the provider asks for it, on the caller's thread
+    assertThat(result).isSameAs(detection);
+    assertThat(calls).hasValue(0);
+  }
+
+  @Test
+  void enabled() throws InterruptedException {
+    AtomicReference<Thread> detectionThread = new AtomicReference<>();
+    CountDownLatch started = new CountDownLatch(1);
+    Supplier<String> detection =
+        () -> {
+          detectionThread.set(Thread.currentThread());
+          started.countDown();
+          return "detected";
+        };
+
+    Supplier<String> result =
+        ParallelResourceDetection.start(detection, "fallback", true, newDeadlines(5000));
+
+    // detection starts without waiting for the result to be asked for
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(result.get()).isEqualTo("detected");
+    assertThat(detectionThread.get()).isNotSameAs(Thread.currentThread());
+    assertThat(detectionThread.get().isDaemon()).isTrue();
+  }
+
+  @Test
+  void failure() {
+    Supplier<String> result =
+        ParallelResourceDetection.start(
+            () -> {
+              throw new IllegalStateException("test");
+            },
+            "fallback",
+            true,
+            newDeadlines(5000));
+
+    assertThat(result.get()).isEqualTo("fallback");
+  }
+
+  @Test
+  void timeout() {
+    CountDownLatch release = new CountDownLatch(1);
+    Supplier<String> detection =
+        () -> {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return "detected";
+        };
+
+    try {
+      Supplier<String> result =
+          ParallelResourceDetection.start(detection, "fallback", true, newDeadlines(100));
+
+      assertThat(result.get()).isEqualTo("fallback");
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  void deadlineStartsOnFirstUse() throws InterruptedException {
+    long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(100);
+    ParallelResourceDetection.Deadline deadline =
+        new ParallelResourceDetection.Deadline(timeoutNanos);
+
+    // time before the results are first asked for does not count
+    Thread.sleep(200);
+    assertThat(deadline.remainingNanos()).isEqualTo(timeoutNanos);
+
+    Thread.sleep(200);
+    assertThat(deadline.remainingNanos()).isZero();
+  }
+
+  @Test
+  void detectionStartedAfterDeadlineExpired() throws InterruptedException {
+    ParallelResourceDetection.DeadlineBatches deadlines = newDeadlines(100);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      Supplier<String> first =
+          ParallelResourceDetection.start(
+              () -> {
+                try {
+                  release.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                return "detected";
+              },
+              "fallback",
+              true,
+              deadlines);
+      assertThat(first.get()).isEqualTo("fallback");
+    } finally {
+      release.countDown();
+    }
+    Thread.sleep(200);
+
+    // e.g. a provider of a second SDK, which gets a deadline of its own
+    Supplier<String> second =
+        ParallelResourceDetection.start(
+            () -> {
+              try {
+                Thread.sleep(50);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              return "detected";
+            },
+            "fallback",
+            true,
+            deadlines);
+    assertThat(second.get()).isEqualTo("detected");
+  }
+
+  @Test
+  void detectionsStartedTogetherShareDeadline() {
+    ParallelResourceDetection.DeadlineBatches deadlines = newDeadlines(5000);
+    ParallelResourceDetection.Deadline deadline = deadlines.current();
+    assertThat(deadlines.current()).isSameAs(deadline);
+
+    deadline.remainingNanos();
+    assertThat(deadlines.current()).isNotSameAs(deadline);
+  }
+
+  private static ParallelResourceDetection.DeadlineBatches newDeadlines(long timeoutMillis) {
+    return new ParallelResourceDetection.DeadlineBatches(
+        TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+  }
+}
@@ -1,5 +1,6 @@
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 otelJava {
@@ -9,6 +10,8 @@ otelJava {
 dependencies {
   implementation(project(":instrumentation:runtime-telemetry:runtime-telemetry-java8:library"))
   testImplementation("io.github.netmikey.logunit:logunit-jul:1.1.3")
+
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk-testing")
 }
 
 tasks.create("generateDocs", JavaExec::class) {
@@ -0,0 +1,196 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17;
+
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.RecordedEventHandler;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the CPU time the handlers spend on the events of a JFR recording, by dispatching the
+ * recorded events to the handlers the same way the recording stream does.
+ *
+ * <p>A recording taken from a real application can be replayed with {@code -p jfrFile=<path>},
+ * otherwise a recording of a small allocating, waiting and socket writing workload is used.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class JfrReplayBenchmark {
+
+  private static final int WORKER_THREADS = 4;
+
+  @Param("")
+  public String jfrFile;
+
+  private SdkMeterProvider meterProvider;
+  private List<RecordedEventHandler> handlers;
+  private final List<RecordedEvent> events = new ArrayList<>();
+  private final List<RecordedEventHandler> eventHandlers = new ArrayList<>();
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(InMemoryMetricReader.create()).build();
+    OpenTelemetrySdk sdk = OpenTelemetrySdk.builder().setMeterProvider(meterProvider).build();
+    handlers = HandlerRegistry.getHandlers(sdk, feature -> true);
+    Map<String, RecordedEventHandler> handlersByEventName = new HashMap<>();
+    for (RecordedEventHandler handler : handlers) {
+      handlersByEventName.put(handler.getEventName(), handler);
+    }
+
+    Path recording = jfrFile.isEmpty() ? recordWorkload() : Paths.get(jfrFile);
+    // events are read up front, so that only the handlers are measured
+    for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+      RecordedEventHandler handler = handlersByEventName.get(event.getEventType().getName());
+      if (handler != null) {
+        events.add(event);
+        eventHandlers.add(handler);
+      }
+    }
+    if (jfrFile.isEmpty()) {
+      Files.delete(recording);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    handlers.forEach(RecordedEventHandler::close);
+    meterProvider.close();
+  }
+
+  @Benchmark
+  public void replay() {
+    for (int i = 0; i < events.size(); i++) {
+      eventHandlers.get(i).accept(events.get(i));
+    }
+  }
+
+  private static Path recordWorkload() throws Exception {
+    Path file = Files.createTempFile("jfr-replay", ".jfr");
+    try (Recording recording = new Recording();
+        ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+      recording.enable("jdk.ObjectAllocationInNewTLAB");
+      recording.enable("jdk.ObjectAllocationOutsideTLAB");
+      recording.enable("jdk.JavaMonitorWait").withThreshold(Duration.ZERO);
+      recording.enable("jdk.SocketRead").withThreshold(Duration.ZERO);
+      recording.enable("jdk.SocketWrite").withThreshold(Duration.ZERO);
+      recording.start();
+
+      Thread reader = new Thread(() -> drain(serverSocket), "socket-reader");
+      reader.start();
+      List<Thread> workers = new ArrayList<>();
+      for (int i = 0; i < WORKER_THREADS; i++) {
+        Thread worker = new Thread(() -> work(serverSocket.getLocalPort()), "worker-" + i);
+        worker.start();
+        workers.add(worker);
+      }
+      for (Thread worker : workers) {
+        worker.join();
+      }
+      reader.join();
+
+      recording.stop();
+      recording.dump(file);
+    }
+    return file;
+  }
+
+  private static void work(int port) {
+    Object lock = new Object();
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+      OutputStream out = socket.getOutputStream();
+      byte[] small = new byte[512];
+      for (int i = 0; i < 2_000; i++) {
+        // fills up tlabs
+        for (int j = 0; j < 100; j++) {
+          small = new byte[512 + j];
+        }
+        if (i % 100 == 0) {
+          // too large for a tlab
+          small = new byte[4 * 1024 * 1024 + small.length];
+        }
+        out.write(small, 0, 512);
+        if (i % 10 == 0) {
+          synchronized (lock) {
+            lock.wait(1);
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void drain(ServerSocket serverSocket) {
+    List<Thread> connections = new ArrayList<>();
+    try {
+      for (int i = 0; i < WORKER_THREADS; i++) {
+        Socket socket = serverSocket.accept();
+        Thread connection =
+            new Thread(
+                () -> {
+                  try (Socket connectionSocket = socket;
+                      InputStream in = connectionSocket.getInputStream()) {
+                    byte[] buffer = new byte[512];
+                    while (in.read(buffer) != -1) {
+                      // discard
+                    }
+                  } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                  }
+                },
+                "socket-reader-" + i);
+        connection.start();
+        connections.add(connection);
+      }
+      for (Thread connection : connections) {
+        connection.join();
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17;
+
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.RecordedEventHandler;
+import java.time.Duration;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+/**
+ * Profiles that trade the level of detail of the JFR based metrics for the overhead of the JFR
+ * recording they are gathered from, which can be selected via {@link
+ * RuntimeMetricsBuilder#setOverheadProfile(JfrOverheadProfile)}.
+ *
+ * <p>Profiles only configure how the events of the enabled {@link JfrFeature}s are recorded, they
+ * don't enable or disable features.
+ */
+public enum JfrOverheadProfile {
+  /**
+   * Polls periodic events every 10 seconds, skips lock waits and socket reads and writes shorter
+   * than 20 milliseconds (the threshold of the JDK's {@code default.jfc}), and keeps at most 10
+   * seconds or 4 MB of recorded events on disk.
+   */
+  MINIMAL(
+      Duration.ofSeconds(10),
+      Duration.ofMillis(20),
+      Duration.ofSeconds(10),
+      /* maxSize= */ 4 * 1024 * 1024),
+  /** Polls periodic events every second and uses the JDK defaults for everything else. */
+  DEFAULT(null, null, null, /* maxSize= */ 0),
+  /**
+   * Polls periodic events every second and records every lock wait and socket read and write,
+   * regardless of the thresholds configured by the JDK.
+   */
+  DETAILED(null, Duration.ZERO, null, /* maxSize= */ 0),
+  ;
+
+  private final Optional<Duration> period;
+  private final Optional<Duration> threshold;
+  private final Optional<Duration> maxAge;
+  private final long maxSize;
+
+  JfrOverheadProfile(
+      @Nullable Duration period,
+      @Nullable Duration threshold,
+      @Nullable Duration maxAge,
+      long maxSize) {
+    this.period = Optional.ofNullable(period);
+    this.threshold = Optional.ofNullable(threshold);
+    this.maxAge = Optional.ofNullable(maxAge);
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns the period for polling the periodic events of the handler, or empty if its events are
+   * not periodic.
+   */
+  Optional<Duration> getPeriod(RecordedEventHandler handler) {
+    return handler.getPollingDuration().map(handlerPeriod -> period.orElse(handlerPeriod));
+  }
+
+  /**
+   * Returns the threshold for the events of the handler, or empty if all of its events are
+   * recorded. The profile only overrides the thresholds of the lock and network features,
+   * recording only the long garbage collections would make the gc metrics wrong.
+   */
+  Optional<Duration> getThreshold(RecordedEventHandler handler) {
+    switch (handler.getFeature()) {
+      case LOCK_METRICS:
+      case NETWORK_IO_METRICS:
+        return threshold.or(handler::getThreshold);
+      default:
+        return handler.getThreshold();
+    }
+  }
+
+  /** Returns the max age of the events kept by the recording stream, if limited. */
+  Optional<Duration> getMaxAge() {
+    return maxAge;
+  }
+
+  /** Returns the max size of the events kept by the recording stream, or 0 if not limited. */
+  long getMaxSize() {
+    return maxSize;
+  }
+}
@@ -6,9 +6,13 @@
 package io.opentelemetry.instrumentation.runtimemetrics.java17;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.AbstractThreadDispatchingHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.RecordedEventHandler;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.RecordingStreamOverhead;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.internal.JmxRuntimeMetricsUtil;
 import java.io.Closeable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -88,36 +92,60 @@ public final class RuntimeMetrics implements AutoCloseable {
   static class JfrRuntimeMetrics implements Closeable {
     private final List<RecordedEventHandler> recordedEventHandlers;
     private final RecordingStream recordingStream;
+    private final List<AutoCloseable> overheadObservables = new ArrayList<>();
     private final CountDownLatch startUpLatch = new CountDownLatch(1);
 
-    private JfrRuntimeMetrics(OpenTelemetry openTelemetry, Predicate<JfrFeature> featurePredicate) {
+    private JfrRuntimeMetrics(
+        OpenTelemetry openTelemetry,
+        Predicate<JfrFeature> featurePredicate,
+        JfrOverheadProfile overheadProfile,
+        boolean emitExperimentalTelemetry) {
       this.recordedEventHandlers = HandlerRegistry.getHandlers(openTelemetry, featurePredicate);
       recordingStream = new RecordingStream();
+      overheadProfile.getMaxAge().ifPresent(recordingStream::setMaxAge);
+      if (overheadProfile.getMaxSize() > 0) {
+        recordingStream.setMaxSize(overheadProfile.getMaxSize());
+      }
       recordedEventHandlers.forEach(
           handler -> {
-            EventSettings eventSettings = recordingStream.enable(handler.getEventName());
-            handler.getPollingDuration().ifPresent(eventSettings::withPeriod);
-            handler.getThreshold().ifPresent(eventSettings::withThreshold);
+            // none of the handlers look at stack traces, which are the most expensive part of
+            // recording an event
+            EventSettings eventSettings =
+                recordingStream.enable(handler.getEventName()).withoutStackTrace();
+            overheadProfile.getPeriod(handler).ifPresent(eventSettings::withPeriod);
+            overheadProfile.getThreshold(handler).ifPresent(eventSettings::withThreshold);
             recordingStream.onEvent(handler.getEventName(), handler);
           });
       recordingStream.onMetadata(event -> startUpLatch.countDown());
       Thread daemonRunner = new Thread(recordingStream::start, "OpenTelemetry JFR-Metrics-Runner");
       daemonRunner.setDaemon(true);
+      if (emitExperimentalTelemetry) {
+        Meter meter = HandlerRegistry.getMeter(openTelemetry);
+        overheadObservables.addAll(RecordingStreamOverhead.registerObservers(meter, daemonRunner));
+        overheadObservables.add(
+            AbstractThreadDispatchingHandler.registerSummarizerCountObserver(
+                meter, recordedEventHandlers));
+      }
       daemonRunner.start();
     }
 
     static JfrRuntimeMetrics build(
-        OpenTelemetry openTelemetry, Predicate<JfrFeature> featurePredicate) {
+        OpenTelemetry openTelemetry,
+        Predicate<JfrFeature> featurePredicate,
+        JfrOverheadProfile overheadProfile,
+        boolean emitExperimentalTelemetry) {
       if (!isJfrAvailable()) {
         return null;
       }
-      return new JfrRuntimeMetrics(openTelemetry, featurePredicate);
+      return new JfrRuntimeMetrics(
+          openTelemetry, featurePredicate, overheadProfile, emitExperimentalTelemetry);
     }
 
     @Override
     public void close() {
       recordingStream.close();
       recordedEventHandlers.forEach(RecordedEventHandler::close);
+      RecordedEventHandler.closeObservables(overheadObservables);
     }
 
     // Visible for testing
@@ -7,6 +7,7 @@ package io.opentelemetry.instrumentation.runtimemetrics.java17;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.Experimental;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.internal.JmxRuntimeMetricsFactory;
 import java.util.Arrays;
 import java.util.EnumMap;
@@ -16,12 +17,19 @@ import javax.annotation.Nullable;
 /** Builder for {@link RuntimeMetrics}. */
 public final class RuntimeMetricsBuilder {
 
+  static {
+    Experimental.internalSetEmitExperimentalTelemetry(
+        (builder, emit) -> builder.emitExperimentalTelemetry = emit);
+  }
+
   private final OpenTelemetry openTelemetry;
   // Visible for testing
   final EnumMap<JfrFeature, Boolean> enabledFeatureMap;
 
   private boolean disableJmx = false;
   private boolean enableExperimentalJmxTelemetry = false;
+  private JfrOverheadProfile overheadProfile = JfrOverheadProfile.DEFAULT;
+  private boolean emitExperimentalTelemetry = false;
 
   RuntimeMetricsBuilder(OpenTelemetry openTelemetry) {
     this.openTelemetry = openTelemetry;
@@ -81,6 +89,16 @@ public final class RuntimeMetricsBuilder {
     return this;
   }
 
+  /**
+   * Sets the {@link JfrOverheadProfile} used for recording the JFR events of the enabled features.
+   * Defaults to {@link JfrOverheadProfile#DEFAULT}.
+   */
+  @CanIgnoreReturnValue
+  public RuntimeMetricsBuilder setOverheadProfile(JfrOverheadProfile overheadProfile) {
+    this.overheadProfile = overheadProfile;
+    return this;
+  }
+
   /** Build and start an {@link RuntimeMetrics} with the config from this builder. */
   public RuntimeMetrics build() {
     List<AutoCloseable> observables =
@@ -97,6 +115,7 @@ public final class RuntimeMetricsBuilder {
     if (enabledFeatureMap.values().stream().noneMatch(isEnabled -> isEnabled)) {
       return null;
     }
-    return RuntimeMetrics.JfrRuntimeMetrics.build(openTelemetry, enabledFeatureMap::get);
+    return RuntimeMetrics.JfrRuntimeMetrics.build(
+        openTelemetry, enabledFeatureMap::get, overheadProfile, emitExperimentalTelemetry);
   }
 }
@@ -5,7 +5,10 @@
 
 package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
 
-import java.util.HashMap;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import jdk.jfr.consumer.RecordedEvent;
@@ -15,14 +18,48 @@ import jdk.jfr.consumer.RecordedEvent;
  * any time.
  */
 public abstract class AbstractThreadDispatchingHandler implements RecordedEventHandler {
-  // Will need pruning code for fast-cycling thread frameworks to prevent memory leaks
-  private final Map<String, Consumer<RecordedEvent>> perThread = new HashMap<>();
+  // summarizers are cheap to recreate, evicting the least recently used ones keeps memory flat for
+  // applications that cycle through many differently named threads
+  static final int MAX_SUMMARIZERS = 256;
+
+  // only accessed from the thread that dispatches the jfr events
+  private final Map<String, Consumer<RecordedEvent>> perThread =
+      new LinkedHashMap<>(16, 0.75f, /* accessOrder= */ true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Consumer<RecordedEvent>> eldest) {
+          return size() > MAX_SUMMARIZERS;
+        }
+      };
   private final ThreadGrouper grouper;
+  private volatile int summarizerCount;
 
   protected AbstractThreadDispatchingHandler(ThreadGrouper grouper) {
     this.grouper = grouper;
   }
 
+  /**
+   * Registers a gauge that reports the number of summarizers kept by each of the given handlers
+   * that dispatches by thread.
+   */
+  public static AutoCloseable registerSummarizerCountObserver(
+      Meter meter, List<RecordedEventHandler> handlers) {
+    return meter
+        .gaugeBuilder(Constants.METRIC_NAME_SUMMARIZER_COUNT)
+        .setDescription(Constants.METRIC_DESCRIPTION_SUMMARIZER_COUNT)
+        .setUnit(Constants.UNIT_SUMMARIZERS)
+        .ofLongs()
+        .buildWithCallback(
+            measurement -> {
+              for (RecordedEventHandler handler : handlers) {
+                if (handler instanceof AbstractThreadDispatchingHandler) {
+                  measurement.record(
+                      ((AbstractThreadDispatchingHandler) handler).summarizerCount,
+                      Attributes.of(Constants.ATTR_EVENT, handler.getEventName()));
+                }
+              }
+            });
+  }
+
   @Override
   public abstract String getEventName();
 
@@ -32,7 +69,13 @@ public abstract class AbstractThreadDispatchingHandler implements RecordedEventH
   public void accept(RecordedEvent ev) {
     String groupedName = grouper.groupedName(ev);
     if (groupedName != null) {
-      perThread.computeIfAbsent(groupedName, this::createPerThreadSummarizer).accept(ev);
+      Consumer<RecordedEvent> summarizer = perThread.get(groupedName);
+      if (summarizer == null) {
+        summarizer = createPerThreadSummarizer(groupedName);
+        perThread.put(groupedName, summarizer);
+        summarizerCount = perThread.size();
+      }
+      summarizer.accept(ev);
     }
   }
 }
@@ -53,11 +53,21 @@ public final class Constants {
       "Measure of initial memory requested.";
   public static final String METRIC_NAME_MEMORY_LIMIT = "jvm.memory.limit";
   public static final String METRIC_DESCRIPTION_MEMORY_LIMIT = "Measure of max obtainable memory.";
+  public static final String METRIC_NAME_SUMMARIZER_COUNT = "jvm.jfr.summarizer.count";
+  public static final String METRIC_DESCRIPTION_SUMMARIZER_COUNT =
+      "Number of per thread group summarizers kept for a JFR event.";
+  public static final String METRIC_NAME_STREAM_CPU_TIME = "jvm.jfr.stream.cpu.time";
+  public static final String METRIC_DESCRIPTION_STREAM_CPU_TIME =
+      "CPU time used by the thread that turns the JFR events into metrics.";
+  public static final String METRIC_NAME_STREAM_ALLOCATION = "jvm.jfr.stream.memory.allocated";
+  public static final String METRIC_DESCRIPTION_STREAM_ALLOCATION =
+      "Memory allocated by the thread that turns the JFR events into metrics.";
   public static final String METRIC_NAME_GC_DURATION = "jvm.gc.duration";
   public static final String METRIC_DESCRIPTION_GC_DURATION =
       "Duration of JVM garbage collection actions.";
 
   public static final AttributeKey<String> ATTR_THREAD_NAME = AttributeKey.stringKey("thread.name");
+  public static final AttributeKey<String> ATTR_EVENT = AttributeKey.stringKey("jfr.event");
   public static final AttributeKey<String> ATTR_ARENA_NAME = AttributeKey.stringKey("arena");
   public static final AttributeKey<String> ATTR_NETWORK_MODE = AttributeKey.stringKey("mode");
   public static final AttributeKey<String> ATTR_MEMORY_TYPE =
@@ -88,5 +98,6 @@ public final class Constants {
   public static final String UNIT_CLASSES = "{class}";
   public static final String UNIT_THREADS = "{thread}";
   public static final String UNIT_BUFFERS = "{buffer}";
+  public static final String UNIT_SUMMARIZERS = "{summarizer}";
   public static final String UNIT_UTILIZATION = "1";
 }
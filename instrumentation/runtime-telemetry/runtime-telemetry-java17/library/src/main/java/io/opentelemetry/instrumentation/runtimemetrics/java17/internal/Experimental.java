@@ -0,0 +1,39 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
+
+import io.opentelemetry.instrumentation.runtimemetrics.java17.RuntimeMetricsBuilder;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+
+/**
+ * This class is internal and experimental. Its APIs are unstable and can change at any time. Its
+ * APIs (or a version of them) may be promoted to the public stable API in the future, but no
+ * guarantees are made.
+ */
+public final class Experimental {
+
+  @Nullable
+  private static volatile BiConsumer<RuntimeMetricsBuilder, Boolean> setEmitExperimentalTelemetry;
+
+  /**
+   * Sets whether the JFR based metrics include experimental metrics about the JFR recording itself,
+   * e.g. the CPU time spent turning JFR events into metrics.
+   */
+  public static void setEmitExperimentalTelemetry(
+      RuntimeMetricsBuilder builder, boolean emitExperimentalTelemetry) {
+    if (setEmitExperimentalTelemetry != null) {
+      setEmitExperimentalTelemetry.accept(builder, emitExperimentalTelemetry);
+    }
+  }
+
+  public static void internalSetEmitExperimentalTelemetry(
+      BiConsumer<RuntimeMetricsBuilder, Boolean> setEmitExperimentalTelemetry) {
+    Experimental.setEmitExperimentalTelemetry = setEmitExperimentalTelemetry;
+  }
+
+  private Experimental() {}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
+
+import io.opentelemetry.api.metrics.Meter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports the CPU time and the memory allocated by the thread that dispatches the JFR events to the
+ * handlers, i.e. the overhead of parsing the recording and of recording the metrics. The overhead
+ * of the JVM for recording the events is not included.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class RecordingStreamOverhead {
+
+  public static List<AutoCloseable> registerObservers(Meter meter, Thread thread) {
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    long threadId = thread.getId();
+    List<AutoCloseable> observables = new ArrayList<>();
+    if (threadBean.isThreadCpuTimeSupported()) {
+      observables.add(
+          meter
+              .counterBuilder(Constants.METRIC_NAME_STREAM_CPU_TIME)
+              .setDescription(Constants.METRIC_DESCRIPTION_STREAM_CPU_TIME)
+              .setUnit(Constants.SECONDS)
+              .ofDoubles()
+              .buildWithCallback(
+                  measurement -> {
+                    // -1 when cpu time measurement is disabled or the thread has terminated
+                    long cpuTimeNanos = threadBean.getThreadCpuTime(threadId);
+                    if (cpuTimeNanos >= 0) {
+                      measurement.record(cpuTimeNanos / 1e9);
+                    }
+                  }));
+    }
+    if (threadBean instanceof com.sun.management.ThreadMXBean) {
+      com.sun.management.ThreadMXBean hotspotThreadBean =
+          (com.sun.management.ThreadMXBean) threadBean;
+      if (hotspotThreadBean.isThreadAllocatedMemorySupported()) {
+        observables.add(
+            meter
+                .counterBuilder(Constants.METRIC_NAME_STREAM_ALLOCATION)
+                .setDescription(Constants.METRIC_DESCRIPTION_STREAM_ALLOCATION)
+                .setUnit(Constants.BYTES)
+                .buildWithCallback(
+                    measurement -> {
+                      long allocatedBytes = hotspotThreadBean.getThreadAllocatedBytes(threadId);
+                      if (allocatedBytes >= 0) {
+                        measurement.record(allocatedBytes);
+                      }
+                    }));
+      }
+    }
+    return observables;
+  }
+
+  private RecordingStreamOverhead() {}
+}
@@ -6,8 +6,12 @@
 package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
 
 import io.opentelemetry.instrumentation.api.incubator.config.internal.InstrumentationConfig;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.JfrOverheadProfile;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.RuntimeMetrics;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.RuntimeMetricsBuilder;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import javax.annotation.Nullable;
 
 /**
@@ -15,6 +19,8 @@ import javax.annotation.Nullable;
  * any time.
  */
 public final class RuntimeMetricsConfigUtil {
+  private static final Logger logger = Logger.getLogger(RuntimeMetricsConfigUtil.class.getName());
+
   private RuntimeMetricsConfigUtil() {}
 
   @Nullable
@@ -38,11 +44,36 @@ public final class RuntimeMetricsConfigUtil {
       return null;
     }
 
+    JfrOverheadProfile overheadProfile =
+        parseOverheadProfile(
+            config.getString("otel.instrumentation.runtime-telemetry-java17.overhead-profile"));
+    if (overheadProfile != null) {
+      builder.setOverheadProfile(overheadProfile);
+    }
+
     if (config.getBoolean(
         "otel.instrumentation.runtime-telemetry.emit-experimental-telemetry", false)) {
       builder.enableExperimentalJmxTelemetry();
+      Experimental.setEmitExperimentalTelemetry(builder, true);
     }
 
     return builder.build();
   }
+
+  // Visible for testing
+  @Nullable
+  static JfrOverheadProfile parseOverheadProfile(@Nullable String overheadProfile) {
+    if (overheadProfile == null) {
+      return null;
+    }
+    try {
+      return JfrOverheadProfile.valueOf(overheadProfile.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      logger.log(
+          Level.WARNING,
+          "Unknown JFR overhead profile \"{0}\", using the default profile",
+          overheadProfile);
+      return null;
+    }
+  }
 }
@@ -10,19 +10,52 @@ import jdk.jfr.consumer.RecordedEvent;
 import jdk.jfr.consumer.RecordedThread;
 
 /**
- * This class is internal and is hence not for public use. Its APIs are unstable and can change at
- * any time.
+ * Groups the threads of JFR events by name, so that e.g. all the threads of a thread pool share a
+ * summarizer and metric attributes.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
  */
 public final class ThreadGrouper {
 
-  // FIXME doesn't actually do any grouping, but should be safe for now
+  static final String VIRTUAL_THREAD_GROUP = "virtual";
+
+  // present on jdk 21+ recordings
+  private static final String VIRTUAL_FIELD = "virtual";
+
   @Nullable
   public String groupedName(RecordedEvent ev) {
     Object thisField = ev.getValue("eventThread");
     if (thisField instanceof RecordedThread) {
       RecordedThread thread = (RecordedThread) thisField;
-      return thread.getJavaName();
+      // virtual threads are usually unnamed or named per task, don't create a group for each one
+      if (thread.hasField(VIRTUAL_FIELD) && thread.getBoolean(VIRTUAL_FIELD)) {
+        return VIRTUAL_THREAD_GROUP;
+      }
+      String name = thread.getJavaName();
+      return name == null ? null : normalizeName(name);
     }
     return null;
   }
+
+  // strips the numeric suffix that thread factories append, e.g. "pool-1-thread-23" becomes
+  // "pool-1-thread" and "http-nio-8080-exec-7" becomes "http-nio-8080-exec"
+  static String normalizeName(String name) {
+    int end = name.length();
+    while (end > 0 && Character.isDigit(name.charAt(end - 1))) {
+      end--;
+    }
+    if (end == name.length()) {
+      return name;
+    }
+    while (end > 0 && isSeparator(name.charAt(end - 1))) {
+      end--;
+    }
+    // keep names that consist of only digits and separators as they are
+    return end == 0 ? name : name.substring(0, end);
+  }
+
+  private static boolean isSeparator(char c) {
+    return c == '-' || c == '_' || c == '#' || c == ' ' || c == '.';
+  }
 }
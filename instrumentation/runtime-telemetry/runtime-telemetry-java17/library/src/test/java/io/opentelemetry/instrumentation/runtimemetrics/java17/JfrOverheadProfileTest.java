@@ -0,0 +1,91 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.RecordedEventHandler;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JfrOverheadProfileTest {
+
+  private List<RecordedEventHandler> handlers;
+
+  @BeforeEach
+  void setup() {
+    handlers = HandlerRegistry.getHandlers(OpenTelemetry.noop(), feature -> true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    handlers.forEach(RecordedEventHandler::close);
+  }
+
+  @Test
+  void defaultProfile() {
+    JfrOverheadProfile profile = JfrOverheadProfile.DEFAULT;
+
+    assertThat(handlers)
+        .allSatisfy(
+            handler -> {
+              assertThat(profile.getPeriod(handler)).isEqualTo(handler.getPollingDuration());
+              assertThat(profile.getThreshold(handler)).isEqualTo(handler.getThreshold());
+            });
+    assertThat(profile.getMaxAge()).isEmpty();
+    assertThat(profile.getMaxSize()).isZero();
+  }
+
+  @Test
+  void minimalProfile() {
+    JfrOverheadProfile profile = JfrOverheadProfile.MINIMAL;
+
+    assertThat(handlers)
+        .anySatisfy(handler -> assertThat(handler.getPollingDuration()).isPresent())
+        .anySatisfy(handler -> assertThat(hasProfileThreshold(handler)).isTrue())
+        .allSatisfy(
+            handler -> {
+              if (handler.getPollingDuration().isPresent()) {
+                assertThat(profile.getPeriod(handler)).contains(Duration.ofSeconds(10));
+              } else {
+                assertThat(profile.getPeriod(handler)).isEmpty();
+              }
+              if (hasProfileThreshold(handler)) {
+                assertThat(profile.getThreshold(handler)).contains(Duration.ofMillis(20));
+              } else {
+                assertThat(profile.getThreshold(handler)).isEqualTo(handler.getThreshold());
+              }
+            });
+    assertThat(profile.getMaxAge()).contains(Duration.ofSeconds(10));
+    assertThat(profile.getMaxSize()).isEqualTo(4 * 1024 * 1024);
+  }
+
+  @Test
+  void detailedProfile() {
+    JfrOverheadProfile profile = JfrOverheadProfile.DETAILED;
+
+    assertThat(handlers)
+        .allSatisfy(
+            handler -> {
+              assertThat(profile.getPeriod(handler)).isEqualTo(handler.getPollingDuration());
+              Optional<Duration> expectedThreshold =
+                  hasProfileThreshold(handler) ? Optional.of(Duration.ZERO) : handler.getThreshold();
+              assertThat(profile.getThreshold(handler)).isEqualTo(expectedThreshold);
+            });
+    assertThat(profile.getMaxAge()).isEmpty();
+    assertThat(profile.getMaxSize()).isZero();
+  }
+
+  private static boolean hasProfileThreshold(RecordedEventHandler handler) {
+    return handler.getFeature() == JfrFeature.LOCK_METRICS
+        || handler.getFeature() == JfrFeature.NETWORK_IO_METRICS;
+  }
+}
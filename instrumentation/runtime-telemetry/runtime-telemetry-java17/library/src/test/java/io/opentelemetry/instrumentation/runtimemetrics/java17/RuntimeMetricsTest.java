@@ -8,9 +8,12 @@ package io.opentelemetry.instrumentation.runtimemetrics.java17;
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
 
 import io.github.netmikey.logunit.api.LogCapturer;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.Constants;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.Experimental;
 import io.opentelemetry.sdk.OpenTelemetrySdk;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import jdk.jfr.FlightRecorder;
 import org.junit.jupiter.api.AfterEach;
@@ -79,6 +82,38 @@ class RuntimeMetricsTest {
     }
   }
 
+  @Test
+  void experimentalTelemetry() throws InterruptedException {
+    RuntimeMetricsBuilder builder =
+        RuntimeMetrics.builder(sdk)
+            .disableAllJmx()
+            .setOverheadProfile(JfrOverheadProfile.MINIMAL);
+    try (RuntimeMetrics jfrTelemetry = builder.build()) {
+      jfrTelemetry.getJfrRuntimeMetrics().getStartUpLatch().await(30, TimeUnit.SECONDS);
+
+      assertThat(reader.collectAllMetrics())
+          .noneSatisfy(
+              metric -> assertThat(metric).hasName(Constants.METRIC_NAME_SUMMARIZER_COUNT))
+          .noneSatisfy(
+              metric -> assertThat(metric).hasName(Constants.METRIC_NAME_STREAM_CPU_TIME))
+          .noneSatisfy(
+              metric -> assertThat(metric).hasName(Constants.METRIC_NAME_STREAM_ALLOCATION));
+    }
+
+    Experimental.setEmitExperimentalTelemetry(builder, true);
+    try (RuntimeMetrics jfrTelemetry = builder.build()) {
+      jfrTelemetry.getJfrRuntimeMetrics().getStartUpLatch().await(30, TimeUnit.SECONDS);
+
+      assertThat(reader.collectAllMetrics())
+          .anySatisfy(
+              metric -> assertThat(metric).hasName(Constants.METRIC_NAME_SUMMARIZER_COUNT))
+          .anySatisfy(
+              metric -> assertThat(metric).hasName(Constants.METRIC_NAME_STREAM_CPU_TIME))
+          .anySatisfy(
+              metric -> assertThat(metric).hasName(Constants.METRIC_NAME_STREAM_ALLOCATION));
+    }
+  }
+
   @Test
   void close() throws InterruptedException {
     try (RuntimeMetrics jfrTelemetry = RuntimeMetrics.builder(sdk).build()) {
@@ -0,0 +1,42 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.netmikey.logunit.api.LogCapturer;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.JfrOverheadProfile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class RuntimeMetricsConfigUtilTest {
+
+  @RegisterExtension
+  LogCapturer logs = LogCapturer.create().captureForType(RuntimeMetricsConfigUtil.class);
+
+  @Test
+  void parseOverheadProfile() {
+    assertThat(RuntimeMetricsConfigUtil.parseOverheadProfile("minimal"))
+        .isEqualTo(JfrOverheadProfile.MINIMAL);
+    assertThat(RuntimeMetricsConfigUtil.parseOverheadProfile("Default"))
+        .isEqualTo(JfrOverheadProfile.DEFAULT);
+    assertThat(RuntimeMetricsConfigUtil.parseOverheadProfile(" DETAILED "))
+        .isEqualTo(JfrOverheadProfile.DETAILED);
+    logs.assertDoesNotContain("Unknown JFR overhead profile");
+  }
+
+  @Test
+  void parseMissingOverheadProfile() {
+    assertThat(RuntimeMetricsConfigUtil.parseOverheadProfile(null)).isNull();
+    logs.assertDoesNotContain("Unknown JFR overhead profile");
+  }
+
+  @Test
+  void parseUnknownOverheadProfile() {
+    assertThat(RuntimeMetricsConfigUtil.parseOverheadProfile("fast")).isNull();
+    logs.assertContains("Unknown JFR overhead profile");
+  }
+}
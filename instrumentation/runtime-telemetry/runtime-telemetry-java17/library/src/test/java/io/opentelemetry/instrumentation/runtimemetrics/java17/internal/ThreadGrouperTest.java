@@ -0,0 +1,32 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ThreadGrouperTest {
+
+  @ParameterizedTest
+  @CsvSource({
+    "main, main",
+    "pool-1-thread-23, pool-1-thread",
+    "http-nio-8080-exec-7, http-nio-8080-exec",
+    "ForkJoinPool.commonPool-worker-3, ForkJoinPool.commonPool-worker",
+    "Thread-12, Thread",
+    "worker_5, worker",
+    "reactor-http-epoll-2, reactor-http-epoll",
+    "Signal Dispatcher, Signal Dispatcher",
+    "C2 CompilerThread0, C2 CompilerThread",
+    "42, 42",
+    "'', ''",
+  })
+  void normalizeName(String name, String expected) {
+    assertThat(ThreadGrouper.normalizeName(name)).isEqualTo(expected);
+  }
+}
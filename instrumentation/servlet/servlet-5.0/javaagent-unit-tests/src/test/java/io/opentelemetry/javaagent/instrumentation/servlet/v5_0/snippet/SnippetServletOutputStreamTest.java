@@ -146,12 +146,69 @@ class SnippetServletOutputStreamTest {
     assertThat(out.getBytes()).isEqualTo(expectedHtml);
   }
 
+  @Test
+  void testInjectionWithOffset() throws IOException {
+    String snippet = "\n  <script type=\"text/javascript\"> Test </script>";
+    byte[] html = readFileAsBytes("beforeSnippetInjection.html");
+    byte[] extraBytes = "this buffer should not be written".getBytes(UTF_8);
+    byte[] buffer = new byte[extraBytes.length + html.length + extraBytes.length];
+    System.arraycopy(extraBytes, 0, buffer, 0, extraBytes.length);
+    System.arraycopy(html, 0, buffer, extraBytes.length, html.length);
+    System.arraycopy(extraBytes, 0, buffer, extraBytes.length + html.length, extraBytes.length);
+
+    InjectionState obj = createInjectionStateForTesting(snippet, UTF_8);
+    InMemoryServletOutputStream out = new InMemoryServletOutputStream();
+
+    Supplier<String> stringSupplier = snippet::toString;
+    OutputStreamSnippetInjectionHelper helper =
+        new OutputStreamSnippetInjectionHelper(stringSupplier);
+    boolean injected = helper.handleWrite(obj, out, buffer, extraBytes.length, html.length);
+    assertThat(obj.getHeadTagBytesSeen()).isEqualTo(-1);
+    assertThat(injected).isEqualTo(true);
+
+    byte[] expectedHtml = readFileAsBytes("afterSnippetInjection.html");
+    assertThat(out.getBytes()).isEqualTo(expectedHtml);
+  }
+
+  @Test
+  void testNoInjectionAfterScanLimit() throws IOException {
+    String snippet = "\n  <script type=\"text/javascript\"> Test </script>";
+    String htmlFirstPart = "<!DOCTYPE html>\n<html lang=\"en\">\n";
+    byte[] htmlFirstPartBytes = htmlFirstPart.getBytes(UTF_8);
+
+    InjectionState obj =
+        new InjectionState(
+            new Servlet5SnippetInjectingResponseWrapper(createResponse(UTF_8), snippet),
+            htmlFirstPartBytes.length);
+    InMemoryServletOutputStream out = new InMemoryServletOutputStream();
+
+    Supplier<String> stringSupplier = snippet::toString;
+    OutputStreamSnippetInjectionHelper helper =
+        new OutputStreamSnippetInjectionHelper(stringSupplier);
+    boolean injected =
+        helper.handleWrite(obj, out, htmlFirstPartBytes, 0, htmlFirstPartBytes.length);
+    assertThat(injected).isFalse();
+    assertThat(obj.isScanningDone()).isFalse();
+
+    byte[] htmlSecondPartBytes = "<head>\n</head>\n</html>".getBytes(UTF_8);
+    injected = helper.handleWrite(obj, out, htmlSecondPartBytes, 0, htmlSecondPartBytes.length);
+
+    assertThat(injected).isFalse();
+    assertThat(obj.isScanningDone()).isTrue();
+    assertThat(obj.isHeadTagWritten()).isFalse();
+    assertThat(out.getBytes()).isEmpty();
+  }
+
   private static InjectionState createInjectionStateForTesting(String snippet, Charset charset) {
+    return new InjectionState(
+        new Servlet5SnippetInjectingResponseWrapper(createResponse(charset), snippet));
+  }
+
+  private static HttpServletResponse createResponse(Charset charset) {
     HttpServletResponse response = mock(HttpServletResponse.class);
     when(response.isCommitted()).thenReturn(false);
     when(response.getCharacterEncoding()).thenReturn(charset.name());
-
-    return new InjectionState(new Servlet5SnippetInjectingResponseWrapper(response, snippet));
+    return response;
   }
 
   private static class InMemoryServletOutputStream extends ServletOutputStream {
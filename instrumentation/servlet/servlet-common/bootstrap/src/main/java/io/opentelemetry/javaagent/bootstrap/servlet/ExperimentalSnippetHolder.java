@@ -11,6 +11,9 @@ public class ExperimentalSnippetHolder {
 
   private static volatile String snippet = getSnippetSetting();
 
+  private static final int maxScannedBytes =
+      ConfigPropertiesUtil.getInt("otel.experimental.javascript-snippet.max-scanned-bytes", 16384);
+
   private static String getSnippetSetting() {
     String result = ConfigPropertiesUtil.getString("otel.experimental.javascript-snippet");
     return result == null ? "" : result;
@@ -24,5 +27,13 @@ public class ExperimentalSnippetHolder {
     return snippet;
   }
 
+  /**
+   * Returns how many bytes (or chars, for writers) of a response are inspected while looking for
+   * the {@code <head>} tag before giving up on injecting the snippet.
+   */
+  public static int getMaxScannedBytes() {
+    return maxScannedBytes;
+  }
+
   private ExperimentalSnippetHolder() {}
 }
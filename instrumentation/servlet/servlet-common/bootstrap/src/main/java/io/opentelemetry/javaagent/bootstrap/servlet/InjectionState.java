@@ -10,10 +10,20 @@ public class InjectionState {
   private static final int HEAD_TAG_WRITTEN_FAKE_VALUE = -1;
   private static final int HEAD_TAG_PREFIX_LENGTH = "<head".length();
   private final SnippetInjectingResponseWrapper wrapper;
+  private final long maxScannedBytes;
   private int headTagBytesSeen = 0;
+  // the state machine keeps no buffer, so a head tag split across writes is still matched; after
+  // the tag was found or the scan limit was reached the remaining writes are passed through as is
+  private long scannedBytes = 0;
+  private boolean scanLimitReached = false;
 
   public InjectionState(SnippetInjectingResponseWrapper wrapper) {
+    this(wrapper, ExperimentalSnippetHolder.getMaxScannedBytes());
+  }
+
+  public InjectionState(SnippetInjectingResponseWrapper wrapper, long maxScannedBytes) {
     this.wrapper = wrapper;
+    this.maxScannedBytes = maxScannedBytes;
   }
 
   public int getHeadTagBytesSeen() {
@@ -32,12 +42,26 @@ public class InjectionState {
     return headTagBytesSeen == HEAD_TAG_WRITTEN_FAKE_VALUE;
   }
 
+  /**
+   * Returns true when the rest of the response does not need to be inspected anymore, either
+   * because the snippet was already injected or because no {@code <head>} tag was found within the
+   * configured scan limit.
+   */
+  public boolean isScanningDone() {
+    return isHeadTagWritten() || scanLimitReached;
+  }
+
   /**
    * Returns true when the byte is the last character of "<head>" and now is the right time to
    * inject. Otherwise, returns false.
    */
   public boolean processByte(int b) {
-    if (isHeadTagWritten()) {
+    if (isScanningDone()) {
+      return false;
+    }
+    if (++scannedBytes > maxScannedBytes) {
+      scanLimitReached = true;
+      headTagBytesSeen = 0;
       return false;
     }
     if (inHeadTag(b)) {
@@ -53,6 +77,48 @@ public class InjectionState {
     }
   }
 
+  /**
+   * Returns the position of the byte that is the last character of "<head>" within the given
+   * range, or -1 if the range does not complete the head tag.
+   */
+  public int processBytes(byte[] bytes, int off, int len) {
+    int end = off + len;
+    for (int i = off; i < end && !isScanningDone(); i++) {
+      if (processByte(bytes[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the position of the char that is the last character of "<head>" within the given
+   * range, or -1 if the range does not complete the head tag.
+   */
+  public int processChars(char[] chars, int off, int len) {
+    int end = off + len;
+    for (int i = off; i < end && !isScanningDone(); i++) {
+      if (processByte(chars[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the position of the char that is the last character of "<head>" within the given
+   * range, or -1 if the range does not complete the head tag.
+   */
+  public int processChars(String s, int off, int len) {
+    int end = off + len;
+    for (int i = off; i < end && !isScanningDone(); i++) {
+      if (processByte(s.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
   private boolean inHeadTag(int b) {
     if (headTagBytesSeen == 0 && b == '<') {
       return true;
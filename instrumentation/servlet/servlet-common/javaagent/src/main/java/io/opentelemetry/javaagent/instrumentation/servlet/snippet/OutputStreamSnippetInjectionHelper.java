@@ -37,20 +37,11 @@ public class OutputStreamSnippetInjectionHelper {
   public boolean handleWrite(
       InjectionState state, OutputStream out, byte[] original, int off, int length)
       throws IOException {
-    if (state.isHeadTagWritten()) {
+    if (state.isScanningDone()) {
       return false;
     }
-    int endOfHeadTagPosition;
-    boolean endOfHeadTagFound = false;
-    for (endOfHeadTagPosition = off;
-        endOfHeadTagPosition < length && endOfHeadTagPosition - off < length;
-        endOfHeadTagPosition++) {
-      if (state.processByte(original[endOfHeadTagPosition])) {
-        endOfHeadTagFound = true;
-        break;
-      }
-    }
-    if (!endOfHeadTagFound) {
+    int endOfHeadTagPosition = state.processBytes(original, off, length);
+    if (endOfHeadTagPosition == -1) {
       return false;
     }
 
@@ -66,14 +57,14 @@ public class OutputStreamSnippetInjectionHelper {
     }
     // updating Content-Length before any further writing in case that writing triggers a flush
     state.getWrapper().updateContentLengthIfPreviouslySet();
-    out.write(original, off, endOfHeadTagPosition + 1);
+    out.write(original, off, endOfHeadTagPosition - off + 1);
     out.write(snippetBytes);
-    out.write(original, endOfHeadTagPosition + 1, length - endOfHeadTagPosition - 1);
+    out.write(original, endOfHeadTagPosition + 1, off + length - endOfHeadTagPosition - 1);
     return true;
   }
 
   public boolean handleWrite(InjectionState state, OutputStream out, int b) throws IOException {
-    if (state.isHeadTagWritten()) {
+    if (state.isScanningDone()) {
       return false;
     }
     if (!state.processByte(b)) {
@@ -22,41 +22,54 @@ public class SnippetInjectingPrintWriter extends PrintWriter {
 
   @Override
   public void write(String s, int off, int len) {
-    if (state.isHeadTagWritten()) {
+    if (state.isScanningDone()) {
       super.write(s, off, len);
       return;
     }
-    for (int i = off; i < s.length() && i - off < len; i++) {
-      write(s.charAt(i));
+    int endOfHeadTagPosition = state.processChars(s, off, len);
+    if (endOfHeadTagPosition == -1) {
+      super.write(s, off, len);
+      return;
     }
+    super.write(s, off, endOfHeadTagPosition - off + 1);
+    injectSnippet();
+    super.write(s, endOfHeadTagPosition + 1, off + len - endOfHeadTagPosition - 1);
   }
 
   @Override
   public void write(int b) {
     super.write(b);
-    if (state.isHeadTagWritten()) {
+    if (state.isScanningDone()) {
       return;
     }
     boolean endOfHeadTagFound = state.processByte(b);
     if (!endOfHeadTagFound) {
       return;
     }
-
-    if (state.getWrapper().isNotSafeToInject()) {
-      return;
-    }
-    state.getWrapper().updateContentLengthIfPreviouslySet();
-    super.write(snippet);
+    injectSnippet();
   }
 
   @Override
   public void write(char[] buf, int off, int len) {
-    if (state.isHeadTagWritten()) {
+    if (state.isScanningDone()) {
       super.write(buf, off, len);
       return;
     }
-    for (int i = off; i < buf.length && i - off < len; i++) {
-      write(buf[i]);
+    int endOfHeadTagPosition = state.processChars(buf, off, len);
+    if (endOfHeadTagPosition == -1) {
+      super.write(buf, off, len);
+      return;
+    }
+    super.write(buf, off, endOfHeadTagPosition - off + 1);
+    injectSnippet();
+    super.write(buf, endOfHeadTagPosition + 1, off + len - endOfHeadTagPosition - 1);
+  }
+
+  private void injectSnippet() {
+    if (state.getWrapper().isNotSafeToInject()) {
+      return;
     }
+    state.getWrapper().updateContentLengthIfPreviouslySet();
+    super.write(snippet);
   }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.spring.autoconfigure.internal;
+
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * Builds the telemetry used for instrumenting beans when it is first needed, and shares it with all
+ * the instrumented beans, instead of building new instrumenters for every bean. HTTP clients ask
+ * for it on their first request; wrapped beans, e.g. data sources, when they are wrapped.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class LazyTelemetry<T> implements Supplier<T> {
+
+  private final Supplier<T> factory;
+  @Nullable private volatile T telemetry;
+
+  private LazyTelemetry(Supplier<T> factory) {
+    this.factory = factory;
+  }
+
+  public static <T> LazyTelemetry<T> of(Supplier<T> factory) {
+    return new LazyTelemetry<>(factory);
+  }
+
+  @Override
+  public T get() {
+    T result = telemetry;
+    if (result == null) {
+      synchronized (this) {
+        result = telemetry;
+        if (result == null) {
+          result = factory.get();
+          telemetry = result;
+        }
+      }
+    }
+    return result;
+  }
+}
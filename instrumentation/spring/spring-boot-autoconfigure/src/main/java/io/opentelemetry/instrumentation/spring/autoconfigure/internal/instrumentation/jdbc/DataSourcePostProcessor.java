@@ -8,6 +8,7 @@ package io.opentelemetry.instrumentation.spring.autoconfigure.internal.instrumen
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.instrumentation.jdbc.datasource.JdbcTelemetry;
+import io.opentelemetry.instrumentation.spring.autoconfigure.internal.LazyTelemetry;
 import io.opentelemetry.instrumentation.spring.autoconfigure.internal.properties.InstrumentationConfigUtil;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import javax.sql.DataSource;
@@ -20,14 +21,20 @@ final class DataSourcePostProcessor implements BeanPostProcessor, Ordered {
 
   private static final Class<?> ROUTING_DATA_SOURCE_CLASS = getRoutingDataSourceClass();
 
-  private final ObjectProvider<OpenTelemetry> openTelemetryProvider;
-  private final ObjectProvider<ConfigProperties> configPropertiesProvider;
+  private final LazyTelemetry<JdbcTelemetry> jdbcTelemetry;
 
   DataSourcePostProcessor(
       ObjectProvider<OpenTelemetry> openTelemetryProvider,
       ObjectProvider<ConfigProperties> configPropertiesProvider) {
-    this.openTelemetryProvider = openTelemetryProvider;
-    this.configPropertiesProvider = configPropertiesProvider;
+    this.jdbcTelemetry =
+        LazyTelemetry.of(
+            () ->
+                JdbcTelemetry.builder(openTelemetryProvider.getObject())
+                    .setStatementSanitizationEnabled(
+                        InstrumentationConfigUtil.isStatementSanitizationEnabled(
+                            configPropertiesProvider.getObject(),
+                            "otel.instrumentation.jdbc.statement-sanitizer.enabled"))
+                    .build());
   }
 
   private static Class<?> getRoutingDataSourceClass() {
@@ -50,13 +57,7 @@ final class DataSourcePostProcessor implements BeanPostProcessor, Ordered {
         && !isRoutingDatasource(bean)
         && !ScopedProxyUtils.isScopedTarget(beanName)) {
       DataSource dataSource = (DataSource) bean;
-      return JdbcTelemetry.builder(openTelemetryProvider.getObject())
-          .setStatementSanitizationEnabled(
-              InstrumentationConfigUtil.isStatementSanitizationEnabled(
-                  configPropertiesProvider.getObject(),
-                  "otel.instrumentation.jdbc.statement-sanitizer.enabled"))
-          .build()
-          .wrap(dataSource);
+      return jdbcTelemetry.get().wrap(dataSource);
     }
     return bean;
   }
@@ -7,6 +7,7 @@ package io.opentelemetry.instrumentation.spring.autoconfigure.internal.instrumen
 
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.instrumentation.r2dbc.v1_0.internal.shaded.R2dbcTelemetry;
+import io.opentelemetry.instrumentation.spring.autoconfigure.internal.LazyTelemetry;
 import io.opentelemetry.instrumentation.spring.autoconfigure.internal.properties.InstrumentationConfigUtil;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import io.r2dbc.spi.ConnectionFactory;
@@ -18,26 +19,28 @@ import org.springframework.boot.r2dbc.OptionsCapableConnectionFactory;
 
 class R2dbcInstrumentingPostProcessor implements BeanPostProcessor {
 
-  private final ObjectProvider<OpenTelemetry> openTelemetryProvider;
-  private final ObjectProvider<ConfigProperties> configPropertiesProvider;
+  private final LazyTelemetry<R2dbcTelemetry> r2dbcTelemetry;
 
   R2dbcInstrumentingPostProcessor(
       ObjectProvider<OpenTelemetry> openTelemetryProvider,
       ObjectProvider<ConfigProperties> configPropertiesProvider) {
-    this.openTelemetryProvider = openTelemetryProvider;
-    this.configPropertiesProvider = configPropertiesProvider;
+    this.r2dbcTelemetry =
+        LazyTelemetry.of(
+            () ->
+                R2dbcTelemetry.builder(openTelemetryProvider.getObject())
+                    .setStatementSanitizationEnabled(
+                        InstrumentationConfigUtil.isStatementSanitizationEnabled(
+                            configPropertiesProvider.getObject(),
+                            "otel.instrumentation.r2dbc.statement-sanitizer.enabled"))
+                    .build());
   }
 
   @Override
   public Object postProcessAfterInitialization(Object bean, String beanName) {
     if (bean instanceof ConnectionFactory && !ScopedProxyUtils.isScopedTarget(beanName)) {
       ConnectionFactory connectionFactory = (ConnectionFactory) bean;
-      return R2dbcTelemetry.builder(openTelemetryProvider.getObject())
-          .setStatementSanitizationEnabled(
-              InstrumentationConfigUtil.isStatementSanitizationEnabled(
-                  configPropertiesProvider.getObject(),
-                  "otel.instrumentation.r2dbc.statement-sanitizer.enabled"))
-          .build()
+      return r2dbcTelemetry
+          .get()
           .wrapConnectionFactory(connectionFactory, getConnectionFactoryOptions(connectionFactory));
     }
     return bean;
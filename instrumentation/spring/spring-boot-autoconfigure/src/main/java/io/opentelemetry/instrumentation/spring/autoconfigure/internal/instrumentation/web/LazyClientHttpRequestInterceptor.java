@@ -0,0 +1,41 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.spring.autoconfigure.internal.instrumentation.web;
+
+import io.opentelemetry.instrumentation.spring.autoconfigure.internal.LazyTelemetry;
+import java.io.IOException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Added to the instrumented clients in place of the instrumentation interceptor, which is built
+ * when the first request is made, so that no instrumenter is built during context refresh.
+ */
+final class LazyClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+  // the interceptor of SpringWebTelemetry, which may also have been added by the user
+  private static final String INSTRUMENTATION_INTERCEPTOR_CLASS_NAME =
+      "io.opentelemetry.instrumentation.spring.web.v3_1.RestTemplateInterceptor";
+
+  private final LazyTelemetry<ClientHttpRequestInterceptor> delegate;
+
+  LazyClientHttpRequestInterceptor(LazyTelemetry<ClientHttpRequestInterceptor> delegate) {
+    this.delegate = delegate;
+  }
+
+  static boolean isInstrumentationInterceptor(ClientHttpRequestInterceptor interceptor) {
+    return interceptor instanceof LazyClientHttpRequestInterceptor
+        || interceptor.getClass().getName().equals(INSTRUMENTATION_INTERCEPTOR_CLASS_NAME);
+  }
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    return delegate.get().intercept(request, body, execution);
+  }
+}
@@ -9,19 +9,19 @@ import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestTemplate;
 
 final class RestTemplateBeanPostProcessor implements BeanPostProcessor {
 
-  private final ObjectProvider<OpenTelemetry> openTelemetryProvider;
-
-  private final ObjectProvider<ConfigProperties> configPropertiesProvider;
+  private final ClientHttpRequestInterceptor interceptor;
 
   RestTemplateBeanPostProcessor(
       ObjectProvider<OpenTelemetry> openTelemetryProvider,
       ObjectProvider<ConfigProperties> configPropertiesProvider) {
-    this.openTelemetryProvider = openTelemetryProvider;
-    this.configPropertiesProvider = configPropertiesProvider;
+    this.interceptor =
+        RestTemplateInstrumentation.newLazyInterceptor(
+            openTelemetryProvider, configPropertiesProvider);
   }
 
   @Override
@@ -30,9 +30,6 @@ final class RestTemplateBeanPostProcessor implements BeanPostProcessor {
       return bean;
     }
 
-    return RestTemplateInstrumentation.addIfNotPresent(
-        (RestTemplate) bean,
-        openTelemetryProvider.getObject(),
-        configPropertiesProvider.getObject());
+    return RestTemplateInstrumentation.addIfNotPresent((RestTemplate) bean, interceptor);
   }
 }
@@ -7,11 +7,13 @@ package io.opentelemetry.instrumentation.spring.autoconfigure.internal.instrumen
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.spring.autoconfigure.internal.LazyTelemetry;
 import io.opentelemetry.instrumentation.spring.autoconfigure.internal.properties.InstrumentationConfigUtil;
 import io.opentelemetry.instrumentation.spring.web.v3_1.SpringWebTelemetry;
 import io.opentelemetry.instrumentation.spring.web.v3_1.internal.WebTelemetryUtil;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestTemplate;
 
@@ -19,22 +21,32 @@ class RestTemplateInstrumentation {
 
   private RestTemplateInstrumentation() {}
 
-  @CanIgnoreReturnValue
-  static RestTemplate addIfNotPresent(
-      RestTemplate restTemplate, OpenTelemetry openTelemetry, ConfigProperties config) {
+  static ClientHttpRequestInterceptor newLazyInterceptor(
+      ObjectProvider<OpenTelemetry> openTelemetryProvider,
+      ObjectProvider<ConfigProperties> configPropertiesProvider) {
+    return new LazyClientHttpRequestInterceptor(
+        LazyTelemetry.of(
+            () ->
+                newInterceptor(
+                    openTelemetryProvider.getObject(), configPropertiesProvider.getObject())));
+  }
 
-    ClientHttpRequestInterceptor instrumentationInterceptor =
-        InstrumentationConfigUtil.configureClientBuilder(
-                config,
-                SpringWebTelemetry.builder(openTelemetry),
-                WebTelemetryUtil.getBuilderExtractor())
-            .build()
-            .newInterceptor();
+  private static ClientHttpRequestInterceptor newInterceptor(
+      OpenTelemetry openTelemetry, ConfigProperties config) {
+    return InstrumentationConfigUtil.configureClientBuilder(
+            config,
+            SpringWebTelemetry.builder(openTelemetry),
+            WebTelemetryUtil.getBuilderExtractor())
+        .build()
+        .newInterceptor();
+  }
 
+  @CanIgnoreReturnValue
+  static RestTemplate addIfNotPresent(
+      RestTemplate restTemplate, ClientHttpRequestInterceptor instrumentationInterceptor) {
     List<ClientHttpRequestInterceptor> restTemplateInterceptors = restTemplate.getInterceptors();
     if (restTemplateInterceptors.stream()
-        .noneMatch(
-            interceptor -> interceptor.getClass() == instrumentationInterceptor.getClass())) {
+        .noneMatch(LazyClientHttpRequestInterceptor::isInstrumentationInterceptor)) {
       restTemplateInterceptors.add(0, instrumentationInterceptor);
     }
     return restTemplate;
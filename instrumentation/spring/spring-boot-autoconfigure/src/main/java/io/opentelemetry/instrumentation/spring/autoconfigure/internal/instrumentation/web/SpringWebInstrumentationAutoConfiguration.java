@@ -13,6 +13,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.web.client.RestTemplateCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -42,8 +43,10 @@ public class SpringWebInstrumentationAutoConfiguration {
   RestTemplateCustomizer otelRestTemplateCustomizer(
       ObjectProvider<OpenTelemetry> openTelemetryProvider,
       ObjectProvider<ConfigProperties> configPropertiesProvider) {
+    ClientHttpRequestInterceptor interceptor =
+        RestTemplateInstrumentation.newLazyInterceptor(
+            openTelemetryProvider, configPropertiesProvider);
     return restTemplate ->
-        RestTemplateInstrumentation.addIfNotPresent(
-            restTemplate, openTelemetryProvider.getObject(), configPropertiesProvider.getObject());
+        RestTemplateInstrumentation.addIfNotPresent(restTemplate, interceptor);
   }
 }
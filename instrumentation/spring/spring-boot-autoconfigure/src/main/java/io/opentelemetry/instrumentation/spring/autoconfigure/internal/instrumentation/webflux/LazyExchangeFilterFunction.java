@@ -0,0 +1,36 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.spring.autoconfigure.internal.instrumentation.webflux;
+
+import io.opentelemetry.instrumentation.spring.autoconfigure.internal.LazyTelemetry;
+import io.opentelemetry.instrumentation.spring.webflux.v5_3.internal.WebClientTracingFilter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Added to the instrumented web clients in place of the tracing filter, which is built when the
+ * first request is made, so that no instrumenter is built during context refresh.
+ */
+final class LazyExchangeFilterFunction implements ExchangeFilterFunction {
+
+  private final LazyTelemetry<ExchangeFilterFunction> delegate;
+
+  LazyExchangeFilterFunction(LazyTelemetry<ExchangeFilterFunction> delegate) {
+    this.delegate = delegate;
+  }
+
+  static boolean isInstrumentationFilter(ExchangeFilterFunction filter) {
+    return filter instanceof LazyExchangeFilterFunction || filter instanceof WebClientTracingFilter;
+  }
+
+  @Override
+  public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+    return delegate.get().filter(request, next);
+  }
+}
@@ -6,13 +6,17 @@
 package io.opentelemetry.instrumentation.spring.autoconfigure.internal.instrumentation.webflux;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.spring.autoconfigure.internal.LazyTelemetry;
 import io.opentelemetry.instrumentation.spring.autoconfigure.internal.properties.InstrumentationConfigUtil;
 import io.opentelemetry.instrumentation.spring.webflux.v5_3.SpringWebfluxClientTelemetry;
 import io.opentelemetry.instrumentation.spring.webflux.v5_3.SpringWebfluxServerTelemetry;
 import io.opentelemetry.instrumentation.spring.webflux.v5_3.internal.SpringWebfluxBuilderUtil;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 
 /**
@@ -22,14 +26,25 @@ import org.springframework.web.reactive.function.client.WebClient;
  */
 final class WebClientBeanPostProcessor implements BeanPostProcessor {
 
-  private final ObjectProvider<OpenTelemetry> openTelemetryProvider;
-  private final ObjectProvider<ConfigProperties> configPropertiesProvider;
+  private final ExchangeFilterFunction filter;
 
   WebClientBeanPostProcessor(
       ObjectProvider<OpenTelemetry> openTelemetryProvider,
       ObjectProvider<ConfigProperties> configPropertiesProvider) {
-    this.openTelemetryProvider = openTelemetryProvider;
-    this.configPropertiesProvider = configPropertiesProvider;
+    this.filter =
+        new LazyExchangeFilterFunction(
+            LazyTelemetry.of(
+                () ->
+                    getTracingFilter(
+                        getWebfluxClientTelemetry(
+                            openTelemetryProvider.getObject(),
+                            configPropertiesProvider.getObject()))));
+  }
+
+  private static ExchangeFilterFunction getTracingFilter(SpringWebfluxClientTelemetry telemetry) {
+    List<ExchangeFilterFunction> filters = new ArrayList<>();
+    telemetry.addFilter(filters);
+    return filters.get(0);
   }
 
   static SpringWebfluxClientTelemetry getWebfluxClientTelemetry(
@@ -63,9 +78,11 @@ final class WebClientBeanPostProcessor implements BeanPostProcessor {
   }
 
   private WebClient.Builder wrapBuilder(WebClient.Builder webClientBuilder) {
-    SpringWebfluxClientTelemetry instrumentation =
-        getWebfluxClientTelemetry(
-            openTelemetryProvider.getObject(), configPropertiesProvider.getObject());
-    return webClientBuilder.filters(instrumentation::addFilter);
+    return webClientBuilder.filters(
+        filters -> {
+          if (filters.stream().noneMatch(LazyExchangeFilterFunction::isInstrumentationFilter)) {
+            filters.add(filter);
+          }
+        });
   }
 }
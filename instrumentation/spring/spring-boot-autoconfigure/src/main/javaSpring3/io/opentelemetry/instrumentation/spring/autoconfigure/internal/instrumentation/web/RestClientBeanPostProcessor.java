@@ -6,6 +6,7 @@
 package io.opentelemetry.instrumentation.spring.autoconfigure.internal.instrumentation.web;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.spring.autoconfigure.internal.LazyTelemetry;
 import io.opentelemetry.instrumentation.spring.autoconfigure.internal.properties.InstrumentationConfigUtil;
 import io.opentelemetry.instrumentation.spring.web.v3_1.SpringWebTelemetry;
 import io.opentelemetry.instrumentation.spring.web.v3_1.internal.WebTelemetryUtil;
@@ -17,44 +18,47 @@ import org.springframework.web.client.RestClient;
 
 final class RestClientBeanPostProcessor implements BeanPostProcessor {
 
-  private final ObjectProvider<OpenTelemetry> openTelemetryProvider;
-  private final ObjectProvider<ConfigProperties> configPropertiesProvider;
+  private final ClientHttpRequestInterceptor interceptor;
 
   public RestClientBeanPostProcessor(
       ObjectProvider<OpenTelemetry> openTelemetryProvider,
       ObjectProvider<ConfigProperties> configPropertiesProvider) {
-    this.openTelemetryProvider = openTelemetryProvider;
-    this.configPropertiesProvider = configPropertiesProvider;
+    this.interceptor = getLazyInterceptor(openTelemetryProvider, configPropertiesProvider);
   }
 
   @Override
   public Object postProcessAfterInitialization(Object bean, String beanName) {
     if (bean instanceof RestClient restClient) {
-      return addRestClientInterceptorIfNotPresent(
-          restClient, openTelemetryProvider.getObject(), configPropertiesProvider.getObject());
+      return addRestClientInterceptorIfNotPresent(restClient, interceptor);
     }
     return bean;
   }
 
   private static RestClient addRestClientInterceptorIfNotPresent(
-      RestClient restClient, OpenTelemetry openTelemetry, ConfigProperties config) {
-    ClientHttpRequestInterceptor instrumentationInterceptor = getInterceptor(openTelemetry, config);
-
+      RestClient restClient, ClientHttpRequestInterceptor instrumentationInterceptor) {
     return restClient
         .mutate()
         .requestInterceptors(
             interceptors -> {
               if (interceptors.stream()
-                  .noneMatch(
-                      interceptor ->
-                          interceptor.getClass() == instrumentationInterceptor.getClass())) {
+                  .noneMatch(LazyClientHttpRequestInterceptor::isInstrumentationInterceptor)) {
                 interceptors.add(0, instrumentationInterceptor);
               }
             })
         .build();
   }
 
-  static ClientHttpRequestInterceptor getInterceptor(
+  static ClientHttpRequestInterceptor getLazyInterceptor(
+      ObjectProvider<OpenTelemetry> openTelemetryProvider,
+      ObjectProvider<ConfigProperties> configPropertiesProvider) {
+    return new LazyClientHttpRequestInterceptor(
+        LazyTelemetry.of(
+            () ->
+                getInterceptor(
+                    openTelemetryProvider.getObject(), configPropertiesProvider.getObject())));
+  }
+
+  private static ClientHttpRequestInterceptor getInterceptor(
       OpenTelemetry openTelemetry, ConfigProperties config) {
     return InstrumentationConfigUtil.configureClientBuilder(
             config,
@@ -15,6 +15,7 @@ import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfigura
 import org.springframework.boot.web.client.RestClientCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestClient;
 
 /**
@@ -42,9 +43,9 @@ public class RestClientInstrumentationAutoConfiguration {
   RestClientCustomizer otelRestClientCustomizer(
       ObjectProvider<OpenTelemetry> openTelemetryProvider,
       ObjectProvider<ConfigProperties> configPropertiesProvider) {
-    return builder ->
-        builder.requestInterceptor(
-            RestClientBeanPostProcessor.getInterceptor(
-                openTelemetryProvider.getObject(), configPropertiesProvider.getObject()));
+    ClientHttpRequestInterceptor interceptor =
+        RestClientBeanPostProcessor.getLazyInterceptor(
+            openTelemetryProvider, configPropertiesProvider);
+    return builder -> builder.requestInterceptor(interceptor);
   }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.spring.autoconfigure.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LazyTelemetryTest {
+
+  @Test
+  void notBuiltUntilFirstUse() {
+    AtomicInteger builds = new AtomicInteger();
+
+    LazyTelemetry<Object> telemetry =
+        LazyTelemetry.of(
+            () -> {
+              builds.incrementAndGet();
+              return new Object();
+            });
+
+    assertThat(builds).hasValue(0);
+
+    Object first = telemetry.get();
+    assertThat(builds).hasValue(1);
+    assertThat(telemetry.get()).isSameAs(first);
+    assertThat(builds).hasValue(1);
+  }
+
+  @Test
+  void builtOnceWhenUsedConcurrently() throws Exception {
+    AtomicInteger builds = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    LazyTelemetry<Object> telemetry =
+        LazyTelemetry.of(
+            () -> {
+              builds.incrementAndGet();
+              return new Object();
+            });
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Object>> results = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return telemetry.get();
+                }));
+      }
+      start.countDown();
+
+      Object first = results.get(0).get();
+      for (Future<Object> result : results) {
+        assertThat(result.get()).isSameAs(first);
+      }
+      assertThat(builds).hasValue(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.spring.autoconfigure.internal.instrumentation.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.spring.web.v3_1.SpringWebTelemetry;
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import io.opentelemetry.sdk.autoconfigure.spi.internal.DefaultConfigProperties;
+import java.net.URI;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+
+class RestTemplateBeanPostProcessorTest {
+
+  @SuppressWarnings("unchecked")
+  private final ObjectProvider<OpenTelemetry> openTelemetryProvider = mock(ObjectProvider.class);
+
+  @SuppressWarnings("unchecked")
+  private final ObjectProvider<ConfigProperties> configPropertiesProvider =
+      mock(ObjectProvider.class);
+
+  private RestTemplateBeanPostProcessor underTest;
+
+  @BeforeEach
+  void setUp() {
+    when(openTelemetryProvider.getObject()).thenReturn(OpenTelemetry.noop());
+    when(configPropertiesProvider.getObject())
+        .thenReturn(DefaultConfigProperties.createFromMap(Collections.emptyMap()));
+    underTest = new RestTemplateBeanPostProcessor(openTelemetryProvider, configPropertiesProvider);
+  }
+
+  @Test
+  void nothingBuiltWithoutRestTemplate() {
+    assertThat(underTest.postProcessAfterInitialization(new Object(), "testObject"))
+        .isExactlyInstanceOf(Object.class);
+
+    verifyNoInteractions(openTelemetryProvider, configPropertiesProvider);
+  }
+
+  @Test
+  void interceptorSharedAndBuiltOnFirstRequest() throws Exception {
+    RestTemplate first =
+        (RestTemplate) underTest.postProcessAfterInitialization(new RestTemplate(), "first");
+    RestTemplate second =
+        (RestTemplate) underTest.postProcessAfterInitialization(new RestTemplate(), "second");
+
+    assertThat(first.getInterceptors()).hasSize(1);
+    assertThat(second.getInterceptors()).hasSize(1);
+    ClientHttpRequestInterceptor interceptor = first.getInterceptors().get(0);
+    assertThat(second.getInterceptors().get(0)).isSameAs(interceptor);
+    // instrumenting the beans does not build any instrumenter
+    verifyNoInteractions(openTelemetryProvider, configPropertiesProvider);
+
+    ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+    when(execution.execute(any(), any()))
+        .thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+    MockClientHttpRequest request =
+        new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost/test"));
+    interceptor.intercept(request, new byte[0], execution);
+    second.getInterceptors().get(0).intercept(request, new byte[0], execution);
+
+    verify(openTelemetryProvider, times(1)).getObject();
+    verify(configPropertiesProvider, times(1)).getObject();
+    verify(execution, times(2)).execute(any(), any());
+  }
+
+  @Test
+  void addIfNotPresent() {
+    RestTemplate restTemplate = new RestTemplate();
+    underTest.postProcessAfterInitialization(restTemplate, "restTemplate");
+    underTest.postProcessAfterInitialization(restTemplate, "restTemplate");
+
+    assertThat(restTemplate.getInterceptors()).hasSize(1);
+  }
+
+  @Test
+  void notAddedWhenUserAddedInterceptor() {
+    ClientHttpRequestInterceptor userInterceptor =
+        SpringWebTelemetry.create(OpenTelemetry.noop()).newInterceptor();
+    RestTemplate restTemplate = new RestTemplate();
+    restTemplate.getInterceptors().add(userInterceptor);
+
+    underTest.postProcessAfterInitialization(restTemplate, "restTemplate");
+
+    assertThat(restTemplate.getInterceptors()).containsExactly(userInterceptor);
+  }
+}
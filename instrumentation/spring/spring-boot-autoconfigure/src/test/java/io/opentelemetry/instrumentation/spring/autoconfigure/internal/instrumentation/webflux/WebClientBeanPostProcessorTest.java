@@ -6,6 +6,8 @@
 package io.opentelemetry.instrumentation.spring.autoconfigure.internal.instrumentation.webflux;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
@@ -13,6 +15,7 @@ import io.opentelemetry.sdk.autoconfigure.spi.internal.DefaultConfigProperties;
 import java.util.Collections;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
@@ -112,6 +115,22 @@ class WebClientBeanPostProcessorTest {
                 .isEqualTo(1));
   }
 
+  @Test
+  @DisplayName("when processed bean is of type WebClient should not build the telemetry yet")
+  void doesNotBuildTelemetry() {
+    @SuppressWarnings("unchecked")
+    ObjectProvider<OpenTelemetry> openTelemetryProvider = mock(ObjectProvider.class);
+    @SuppressWarnings("unchecked")
+    ObjectProvider<ConfigProperties> configPropertiesProvider = mock(ObjectProvider.class);
+    BeanPostProcessor underTest =
+        new WebClientBeanPostProcessor(openTelemetryProvider, configPropertiesProvider);
+
+    underTest.postProcessAfterInitialization(WebClient.create(), "testWebClient");
+    underTest.postProcessAfterInitialization(WebClient.builder(), "testWebClientBuilder");
+
+    verifyNoInteractions(openTelemetryProvider, configPropertiesProvider);
+  }
+
   private static boolean isOtelExchangeFilter(ExchangeFilterFunction wctf) {
     return wctf.getClass().getName().startsWith("io.opentelemetry.instrumentation");
   }
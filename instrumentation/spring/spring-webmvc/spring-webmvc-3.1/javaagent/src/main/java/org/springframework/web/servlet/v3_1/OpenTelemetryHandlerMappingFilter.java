@@ -45,7 +45,11 @@ public class OpenTelemetryHandlerMappingFilter implements Filter, Ordered {
   private static final MethodHandle parseAndCacheMh = parseAndCacheMh();
 
   private final HttpServerRouteGetter<HttpServletRequest> serverSpanName =
-      (context, request) -> {
+      (context, originalRequest) -> {
+        // the request is wrapped only here, when the route is actually going to be computed; in
+        // most cases the controller instrumentation has already set the route and this getter is
+        // never called
+        HttpServletRequest request = prepareRequest(originalRequest);
         if (this.parseRequestPath) {
           // sets new value for PATH_ATTRIBUTE of request
           if (!parseAndCache(request)) {
@@ -81,7 +85,7 @@ public class OpenTelemetryHandlerMappingFilter implements Filter, Ordered {
     } finally {
       if (handlerMappings != null) {
         Context context = Context.current();
-        HttpServerRoute.update(context, CONTROLLER, serverSpanName, prepareRequest(request));
+        HttpServerRoute.update(context, CONTROLLER, serverSpanName, (HttpServletRequest) request);
       }
     }
   }
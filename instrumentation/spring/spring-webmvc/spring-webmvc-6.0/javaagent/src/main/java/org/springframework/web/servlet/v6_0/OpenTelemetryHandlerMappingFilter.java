@@ -40,7 +40,11 @@ public class OpenTelemetryHandlerMappingFilter implements Filter, Ordered {
       Logger.getLogger(OpenTelemetryHandlerMappingFilter.class.getName());
 
   private final HttpServerRouteGetter<HttpServletRequest> serverSpanName =
-      (context, request) -> {
+      (context, originalRequest) -> {
+        // the request is wrapped only here, when the route is actually going to be computed; in
+        // most cases the controller instrumentation has already set the route and this getter is
+        // never called
+        HttpServletRequest request = prepareRequest(originalRequest);
         if (this.parseRequestPath) {
           // sets new value for PATH_ATTRIBUTE of request
           try {
@@ -79,7 +83,7 @@ public class OpenTelemetryHandlerMappingFilter implements Filter, Ordered {
     } finally {
       if (handlerMappings != null) {
         Context context = Context.current();
-        HttpServerRoute.update(context, CONTROLLER, serverSpanName, prepareRequest(request));
+        HttpServerRoute.update(context, CONTROLLER, serverSpanName, (HttpServletRequest) request);
       }
     }
   }
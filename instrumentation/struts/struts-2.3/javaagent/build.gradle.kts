@@ -1,5 +1,6 @@
 plugins {
   id("otel.javaagent-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 muzzle {
@@ -28,6 +29,10 @@ dependencies {
   testInstrumentation(project(":instrumentation:struts:struts-7.0:javaagent"))
 
   latestDepTestLibrary("org.apache.struts:struts2-core:6.+") // see struts2-7.0 module
+
+  jmhImplementation(project(":instrumentation-api"))
+  jmhImplementation(project(":instrumentation:servlet:servlet-common:bootstrap"))
+  jmhImplementation("org.apache.struts:struts2-core:2.3.1")
 }
 
 tasks.withType<Test>().configureEach {
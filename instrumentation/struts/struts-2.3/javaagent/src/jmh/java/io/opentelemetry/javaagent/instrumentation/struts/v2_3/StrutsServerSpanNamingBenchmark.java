@@ -0,0 +1,53 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.struts.v2_3;
+
+import com.opensymphony.xwork2.config.entities.ActionConfig;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares building the route of a struts action on every request with looking it up by its
+ * action name and namespace.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class StrutsServerSpanNamingBenchmark {
+
+  private final ActionConfig config =
+      new ActionConfig.Builder("orders", "order-*", "com.example.OrderAction").build();
+  private final String namespace = "/shop";
+
+  @Benchmark
+  public String computeEveryTime() {
+    return StrutsServerSpanNaming.computeRoute(config.getName(), namespace);
+  }
+
+  @Benchmark
+  public String cached() {
+    return StrutsServerSpanNaming.getRoute(config, namespace);
+  }
+
+  @Benchmark
+  public String cachedWildcard() {
+    // wildcard mappings create a new action config for every request
+    ActionConfig wildcardConfig =
+        new ActionConfig.Builder("orders", "order-*", "com.example.OrderAction").build();
+    return StrutsServerSpanNaming.getRoute(wildcardConfig, namespace);
+  }
+}
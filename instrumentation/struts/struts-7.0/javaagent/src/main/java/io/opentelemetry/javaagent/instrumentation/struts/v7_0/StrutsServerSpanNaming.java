@@ -5,33 +5,56 @@
 
 package io.opentelemetry.javaagent.instrumentation.struts.v7_0;
 
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpServerRouteGetter;
 import io.opentelemetry.javaagent.bootstrap.servlet.ServletContextPath;
+import javax.annotation.Nullable;
 import org.apache.struts2.ActionProxy;
+import org.apache.struts2.config.entities.ActionConfig;
 
 public class StrutsServerSpanNaming {
 
+  // routes by namespace and action name; wildcard action mappings create a new ActionConfig for
+  // every request, but all of them have the name of the mapping, e.g. "order-*"
+  private static final Cache<String, Cache<String, String>> routeCache = Cache.bounded(64);
+
   public static final HttpServerRouteGetter<ActionProxy> SERVER_SPAN_NAME =
-      (context, actionProxy) -> {
-        // We take name from the config, because it contains the path pattern from the
-        // configuration.
-        String result = actionProxy.getConfig().getName();
-
-        String actionNamespace = actionProxy.getNamespace();
-        if (actionNamespace != null && !actionNamespace.isEmpty()) {
-          if (actionNamespace.endsWith("/") || result.startsWith("/")) {
-            result = actionNamespace + result;
-          } else {
-            result = actionNamespace + "/" + result;
-          }
-        }
-
-        if (!result.startsWith("/")) {
-          result = "/" + result;
-        }
-
-        return ServletContextPath.prepend(context, result);
-      };
+      (context, actionProxy) ->
+          ServletContextPath.prepend(
+              context, getRoute(actionProxy.getConfig(), actionProxy.getNamespace()));
+
+  private static String getRoute(ActionConfig config, @Nullable String actionNamespace) {
+    String namespace = actionNamespace != null ? actionNamespace : "";
+    Cache<String, String> namespaceRoutes =
+        routeCache.computeIfAbsent(namespace, unused -> Cache.bounded(256));
+    // We take name from the config, because it contains the path pattern from the
+    // configuration.
+    String actionName = config.getName();
+    String route = namespaceRoutes.get(actionName);
+    if (route == null) {
+      route = computeRoute(actionName, namespace);
+      namespaceRoutes.put(actionName, route);
+    }
+    return route;
+  }
+
+  private static String computeRoute(String actionName, String actionNamespace) {
+    String result = actionName;
+
+    if (!actionNamespace.isEmpty()) {
+      if (actionNamespace.endsWith("/") || result.startsWith("/")) {
+        result = actionNamespace + result;
+      } else {
+        result = actionNamespace + "/" + result;
+      }
+    }
+
+    if (!result.startsWith("/")) {
+      result = "/" + result;
+    }
+
+    return result;
+  }
 
   private StrutsServerSpanNaming() {}
 }
@@ -9,9 +9,11 @@ import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.api.instrumenter.LocalRootSpan;
+import io.opentelemetry.instrumentation.api.internal.HttpServerRouteCache;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpServerRoute;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpServerRouteSource;
 import io.vertx.core.Handler;
+import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.UndeclaredThrowableException;
@@ -21,6 +23,10 @@ import java.util.concurrent.ExecutionException;
 /** This is used to wrap Vert.x Handlers to provide nice user-friendly SERVER span names */
 public final class RoutingContextHandlerWrapper implements Handler<RoutingContext> {
 
+  // routes are keyed by the matched Route and the route inherited from the enclosing router
+  private static final HttpServerRouteCache<Route, String> routeCache =
+      HttpServerRouteCache.create(RoutingContextHandlerWrapper::computeRoute);
+
   private final Handler<RoutingContext> handler;
 
   public RoutingContextHandlerWrapper(Handler<RoutingContext> handler) {
@@ -32,10 +38,7 @@ public final class RoutingContextHandlerWrapper implements Handler<RoutingContex
     Context otelContext = Context.current();
     // remember currently set route so it could be restored
     RoutingContextUtil.setRoute(context, RouteHolder.get(otelContext));
-    String route = getRoute(otelContext, context);
-    if (route != null && route.endsWith("/")) {
-      route = route.substring(0, route.length() - 1);
-    }
+    String route = getRoute(context.currentRoute(), RouteHolder.get(otelContext));
     HttpServerRoute.update(otelContext, HttpServerRouteSource.NESTED_CONTROLLER, route);
 
     try (Scope ignore = RouteHolder.init(otelContext, route).makeCurrent()) {
@@ -49,10 +52,21 @@ public final class RoutingContextHandlerWrapper implements Handler<RoutingContex
     }
   }
 
-  private static String getRoute(Context otelContext, RoutingContext routingContext) {
-    String route = routingContext.currentRoute().getPath();
-    String existingRoute = RouteHolder.get(otelContext);
-    return existingRoute != null ? existingRoute + route : route;
+  // visible for benchmarks
+  static String getRoute(Route currentRoute, String existingRoute) {
+    return routeCache.get(currentRoute, existingRoute);
+  }
+
+  // visible for benchmarks
+  static String computeRoute(Route currentRoute, String existingRoute) {
+    String route = currentRoute.getPath();
+    if (existingRoute != null) {
+      route = existingRoute + route;
+    }
+    if (route != null && route.endsWith("/")) {
+      route = route.substring(0, route.length() - 1);
+    }
+    return route;
   }
 
   private static Throwable unwrapThrowable(Throwable throwable) {
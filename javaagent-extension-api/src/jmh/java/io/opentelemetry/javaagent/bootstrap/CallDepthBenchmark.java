@@ -0,0 +1,70 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Simulates the call depth tracking done by the advices when a http client call is made from within
+ * a jdbc call, where both the jdbc driver and the http client delegate to overloaded methods that
+ * are instrumented as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CallDepthBenchmark {
+
+  @Benchmark
+  @Threads(1)
+  public int threads01_nestedCalls() {
+    return nestedCalls();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public int threads08_nestedCalls() {
+    return nestedCalls();
+  }
+
+  private static int nestedCalls() {
+    int result = 0;
+    CallDepth statement = CallDepth.forClass(JdbcStatementAdvice.class);
+    if (statement.getAndIncrement() == 0) {
+      // Statement.execute(String) delegating to Statement.execute(String, int)
+      CallDepth nestedStatement = CallDepth.forClass(JdbcStatementAdvice.class);
+      result += nestedStatement.getAndIncrement();
+
+      CallDepth httpClient = CallDepth.forClass(HttpClientAdvice.class);
+      if (httpClient.getAndIncrement() == 0) {
+        // HttpClient.send() delegating to HttpClient.sendAsync()
+        CallDepth nestedHttpClient = CallDepth.forClass(HttpClientAdvice.class);
+        result += nestedHttpClient.getAndIncrement();
+        result += nestedHttpClient.decrementAndGet();
+      }
+      result += httpClient.decrementAndGet();
+
+      result += nestedStatement.decrementAndGet();
+    }
+    return result + statement.decrementAndGet();
+  }
+
+  private static class JdbcStatementAdvice {}
+
+  private static class HttpClientAdvice {}
+}
@@ -22,9 +22,11 @@ package io.opentelemetry.javaagent.bootstrap;
  */
 public final class CallDepth {
 
+  final int generation;
   private int depth;
 
-  CallDepth() {
+  CallDepth(int generation) {
+    this.generation = generation;
     this.depth = 0;
   }
 
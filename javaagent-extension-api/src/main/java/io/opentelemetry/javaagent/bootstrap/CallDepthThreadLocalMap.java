@@ -5,24 +5,119 @@
 
 package io.opentelemetry.javaagent.bootstrap;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+// Every class gets a slot assigned on first use, and every thread keeps the call depths of all
+// classes in a single array indexed by that slot. This needs only one thread local lookup, instead
+// of one thread local per class. Virtual threads get their own array, just like platform threads,
+// since a virtual thread can be moved to a different carrier thread between entering and exiting a
+// method.
+//
+// The slot is only reachable through the ClassValue, so it is collected when its class is unloaded
+// and its index is then given to the next class that needs one. Each slot also gets a new
+// generation, so that a thread that still has the call depth of the unloaded class in its array
+// starts the new class from zero.
 final class CallDepthThreadLocalMap {
 
-  private static final ClassValue<ThreadLocalDepth> TLS =
-      new ClassValue<ThreadLocalDepth>() {
+  private static final int INITIAL_CAPACITY = 64;
+
+  private static final Object lock = new Object();
+  private static final ReferenceQueue<Slot> collectedSlots = new ReferenceQueue<>();
+
+  // guarded by lock
+  private static final Set<SlotReference> slotReferences =
+      Collections.newSetFromMap(new IdentityHashMap<>());
+  // guarded by lock
+  private static final Deque<Integer> freeIndexes = new ArrayDeque<>();
+  // guarded by lock
+  private static int nextIndex;
+  // guarded by lock
+  private static int nextGeneration;
+
+  private static final ClassValue<Slot> SLOTS =
+      new ClassValue<Slot>() {
         @Override
-        protected ThreadLocalDepth computeValue(Class<?> type) {
-          return new ThreadLocalDepth();
+        protected Slot computeValue(Class<?> type) {
+          return allocateSlot();
         }
       };
 
+  private static final ThreadLocal<CallDepth[]> TLS =
+      ThreadLocal.withInitial(() -> new CallDepth[INITIAL_CAPACITY]);
+
   static CallDepth getCallDepth(Class<?> k) {
-    return TLS.get(k).get();
+    Slot slot = SLOTS.get(k);
+    CallDepth[] callDepths = TLS.get();
+    int index = slot.index;
+    if (index >= callDepths.length) {
+      callDepths = Arrays.copyOf(callDepths, Math.max(index + 1, callDepths.length * 2));
+      TLS.set(callDepths);
+    }
+    CallDepth callDepth = callDepths[index];
+    if (callDepth == null || callDepth.generation != slot.generation) {
+      callDepth = new CallDepth(slot.generation);
+      callDepths[index] = callDepth;
+    }
+    return callDepth;
+  }
+
+  // Visible for testing
+  static int getSlotIndex(Class<?> k) {
+    return SLOTS.get(k).index;
+  }
+
+  // Visible for testing
+  static int getFreeSlotCount() {
+    synchronized (lock) {
+      reclaimCollectedSlots();
+      return freeIndexes.size();
+    }
   }
 
-  private static final class ThreadLocalDepth extends ThreadLocal<CallDepth> {
-    @Override
-    protected CallDepth initialValue() {
-      return new CallDepth();
+  private static Slot allocateSlot() {
+    synchronized (lock) {
+      reclaimCollectedSlots();
+      Integer freeIndex = freeIndexes.pollFirst();
+      Slot slot = new Slot(freeIndex != null ? freeIndex : nextIndex++, nextGeneration++);
+      slotReferences.add(new SlotReference(slot, collectedSlots));
+      return slot;
+    }
+  }
+
+  // guarded by lock
+  private static void reclaimCollectedSlots() {
+    Reference<? extends Slot> reference;
+    while ((reference = collectedSlots.poll()) != null) {
+      SlotReference slotReference = (SlotReference) reference;
+      slotReferences.remove(slotReference);
+      freeIndexes.addLast(slotReference.index);
+    }
+  }
+
+  private static final class Slot {
+    final int index;
+    final int generation;
+
+    Slot(int index, int generation) {
+      this.index = index;
+      this.generation = generation;
+    }
+  }
+
+  private static final class SlotReference extends WeakReference<Slot> {
+    final int index;
+
+    SlotReference(Slot slot, ReferenceQueue<Slot> queue) {
+      super(slot, queue);
+      this.index = slot.index;
     }
   }
 
@@ -7,6 +7,15 @@ package io.opentelemetry.javaagent.bootstrap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 class CallDepthTest {
@@ -28,4 +37,90 @@ class CallDepthTest {
     assertThat(CallDepth.forClass(Double.class).getAndIncrement()).isZero();
     assertThat(CallDepth.forClass(Double.class).decrementAndGet()).isZero();
   }
+
+  @Test
+  void manyClasses() {
+    List<Class<?>> classes = new ArrayList<>();
+    Class<?> cls = Long.class;
+    for (int i = 0; i < 200; i++) {
+      cls = Array.newInstance(cls, 0).getClass();
+      classes.add(cls);
+    }
+
+    for (Class<?> c : classes) {
+      assertThat(CallDepth.forClass(c).getAndIncrement()).isZero();
+    }
+    for (Class<?> c : classes) {
+      assertThat(CallDepth.forClass(c).decrementAndGet()).isZero();
+    }
+  }
+
+  @Test
+  void separateDepthPerThread() throws InterruptedException {
+    assertThat(CallDepth.forClass(Short.class).getAndIncrement()).isZero();
+
+    AtomicInteger otherThreadDepth = new AtomicInteger(-1);
+    Thread thread =
+        new Thread(
+            () -> otherThreadDepth.set(CallDepth.forClass(Short.class).getAndIncrement()));
+    thread.start();
+    thread.join();
+
+    assertThat(otherThreadDepth).hasValue(0);
+    assertThat(CallDepth.forClass(Short.class).decrementAndGet()).isZero();
+  }
+
+  @Test
+  void slotsReusedAfterClassUnloading() throws Exception {
+    byte[] classBytes = readClassBytes(Throwaway.class);
+    int classCount = 100;
+
+    Set<Integer> indexes = new HashSet<>();
+    for (int i = 0; i < classCount; i++) {
+      Class<?> cls = new ThrowawayClassLoader(classBytes).loadThrowaway();
+      indexes.add(CallDepthThreadLocalMap.getSlotIndex(cls));
+      // leave the call depth unbalanced, the class that gets the slot next must start from zero
+      assertThat(CallDepth.forClass(cls).getAndIncrement()).isZero();
+    }
+
+    // the throwaway class loaders are no longer referenced, wait for them to be unloaded
+    for (int i = 0; i < 100 && CallDepthThreadLocalMap.getFreeSlotCount() < classCount; i++) {
+      System.gc();
+      Thread.sleep(100);
+    }
+    assertThat(CallDepthThreadLocalMap.getFreeSlotCount()).isGreaterThanOrEqualTo(classCount);
+
+    Class<?> cls = new ThrowawayClassLoader(classBytes).loadThrowaway();
+    assertThat(indexes).contains(CallDepthThreadLocalMap.getSlotIndex(cls));
+    assertThat(CallDepth.forClass(cls).getAndIncrement()).isZero();
+    assertThat(CallDepth.forClass(cls).decrementAndGet()).isZero();
+  }
+
+  private static byte[] readClassBytes(Class<?> cls) throws IOException {
+    String resourceName = cls.getName().substring(cls.getName().lastIndexOf('.') + 1) + ".class";
+    try (InputStream in = cls.getResourceAsStream(resourceName)) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[4096];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+      }
+      return out.toByteArray();
+    }
+  }
+
+  static class Throwaway {}
+
+  private static class ThrowawayClassLoader extends ClassLoader {
+    private final byte[] classBytes;
+
+    ThrowawayClassLoader(byte[] classBytes) {
+      super(null);
+      this.classBytes = classBytes;
+    }
+
+    Class<?> loadThrowaway() {
+      return defineClass(Throwaway.class.getName(), classBytes, 0, classBytes.length);
+    }
+  }
 }